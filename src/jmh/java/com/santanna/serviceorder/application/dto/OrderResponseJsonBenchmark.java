@@ -0,0 +1,79 @@
+package com.santanna.serviceorder.application.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.santanna.serviceorder.domain.model.OrderStatus;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+// Gson (configurado como no WebConfig) contra o ObjectMapper do Spring na resposta de um pedido
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderResponseJsonBenchmark {
+
+    private Gson gson;
+    private ObjectMapper objectMapper;
+    private OrderResponseDto order;
+    private String json;
+
+    @Setup
+    public void setUp() throws IOException {
+        // Sem o adapter o Gson precisa de reflexão em java.time, bloqueada a partir do Java 17
+        gson = new GsonBuilder()
+                .serializeNulls()
+                .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeAdapter().nullSafe())
+                .create();
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        order = new OrderResponseDto(742_113_908_224L, "ORD12345", "Notebook Pro 14", 3,
+                new BigDecimal("8999.70"), "BRL", OrderStatus.PROCESSED, LocalDateTime.of(2025, 6, 1, 10, 15, 30));
+        json = objectMapper.writeValueAsString(order);
+    }
+
+    @Benchmark
+    public String gsonWrite() {
+        return gson.toJson(order);
+    }
+
+    @Benchmark
+    public String jacksonWrite() throws IOException {
+        return objectMapper.writeValueAsString(order);
+    }
+
+    @Benchmark
+    public OrderResponseDto gsonRead() {
+        return gson.fromJson(json, OrderResponseDto.class);
+    }
+
+    @Benchmark
+    public OrderResponseDto jacksonRead() throws IOException {
+        return objectMapper.readValue(json, OrderResponseDto.class);
+    }
+
+    private static class LocalDateTimeAdapter extends TypeAdapter<LocalDateTime> {
+        @Override
+        public void write(JsonWriter out, LocalDateTime value) throws IOException {
+            out.value(value.toString());
+        }
+
+        @Override
+        public LocalDateTime read(JsonReader in) throws IOException {
+            return LocalDateTime.parse(in.nextString());
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.santanna.serviceorder.domain.builder;
+
+import com.santanna.serviceorder.domain.builder.objectbuild.CreateOrderBuilder;
+import com.santanna.serviceorder.domain.model.Order;
+import com.santanna.serviceorder.domain.model.OrderStatus;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+// Caminho de criação do CreateOrderUseCase (um builder e um director por pedido) contra o construtor direto
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderBuilderBenchmark {
+
+    private String orderNumber;
+    private String productName;
+    private Integer quantity;
+    private BigDecimal unitPrice;
+
+    @Setup
+    public void setUp() {
+        orderNumber = "ORD12345";
+        productName = "Notebook Pro 14";
+        quantity = 3;
+        unitPrice = new BigDecimal("2999.90");
+    }
+
+    @Benchmark
+    public Order director() {
+        OrderDirector director = new OrderDirector(new CreateOrderBuilder());
+        director.getBuilder(null, orderNumber, productName, quantity, unitPrice,
+                Order.DEFAULT_CURRENCY, OrderStatus.PROCESSED, System.currentTimeMillis());
+        return director.getOrderBuilder();
+    }
+
+    @Benchmark
+    public Order constructor() {
+        return new Order(Order.NO_ID, orderNumber, productName, quantity,
+                Order.calculateTotalValue(299_990L, quantity), Order.DEFAULT_CURRENCY,
+                OrderStatus.PROCESSED, System.currentTimeMillis());
+    }
+}
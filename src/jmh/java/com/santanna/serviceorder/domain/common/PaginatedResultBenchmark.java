@@ -0,0 +1,50 @@
+package com.santanna.serviceorder.domain.common;
+
+import com.santanna.serviceorder.application.dto.OrderResponseDto;
+import com.santanna.serviceorder.domain.model.Order;
+import com.santanna.serviceorder.domain.model.OrderConverter;
+import com.santanna.serviceorder.domain.model.OrderStatus;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Montagem da página devolvida pelo GET /orders: conversão do conteúdo para DTO e cálculo das páginas
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaginatedResultBenchmark {
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    private List<Order> orders;
+
+    @Setup
+    public void setUp() {
+        long createdAt = Order.toEpochMilli(LocalDateTime.of(2025, 6, 1, 10, 15, 30));
+        orders = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            orders.add(new Order((long) i + 1, "ORD" + i, "Product " + i, i % 7 + 1,
+                    1999L + i, Order.DEFAULT_CURRENCY, OrderStatus.PROCESSED, createdAt + i * 1000L));
+        }
+    }
+
+    @Benchmark
+    public PaginatedResult<OrderResponseDto> exact() {
+        PaginatedResult<Order> page = new PaginatedResult<>(orders, 3, pageSize, 1_250_000L);
+        return new PaginatedResult<>(page.getContent().stream().map(OrderConverter::toDto).toList(),
+                page.getPageNumber(), page.getPageSize(), page.getTotalElements());
+    }
+
+    @Benchmark
+    public PaginatedResult<OrderResponseDto> approximate() {
+        List<OrderResponseDto> content = orders.stream().map(OrderConverter::toDto).toList();
+        return new PaginatedResult<>(content, 3, pageSize, 1_250_000L, true, LocalDateTime.MIN);
+    }
+}
@@ -0,0 +1,61 @@
+package com.santanna.serviceorder.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.santanna.serviceorder.application.dto.OrderResponseDto;
+import com.santanna.serviceorder.domain.model.OrderStatus;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+// Valor do cache "orders" no formato binário (com e sem compressão) contra o JSON com tipo do Jackson
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderCacheSerializerBenchmark {
+
+    @Param({"binary", "binary-compressed", "json"})
+    private String format;
+
+    @Param({"16", "512"})
+    private int productNameLength;
+
+    private RedisSerializer<Object> serializer;
+    private OrderResponseDto order;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() {
+        // Mesma configuração do RedisConfig
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new JavaTimeModule());
+        RedisSerializer<Object> json = new GenericJackson2JsonRedisSerializer(mapper);
+        serializer = switch (format) {
+            case "binary" -> new OrderCacheSerializer(json, Integer.MAX_VALUE);
+            case "binary-compressed" -> new OrderCacheSerializer(json, 0);
+            default -> json;
+        };
+
+        order = new OrderResponseDto(742_113_908_224L, "ORD12345", "N".repeat(productNameLength), 3,
+                new BigDecimal("8999.70"), "BRL", OrderStatus.PROCESSED, LocalDateTime.of(2025, 6, 1, 10, 15, 30));
+        encoded = serializer.serialize(order);
+        System.out.printf("%n%s, productName %d chars: %d bytes%n", format, productNameLength, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(order);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serializer.deserialize(encoded);
+    }
+}
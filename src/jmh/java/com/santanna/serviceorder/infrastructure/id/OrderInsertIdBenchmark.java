@@ -0,0 +1,114 @@
+package com.santanna.serviceorder.infrastructure.id;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+// Um lote de 50 pedidos (hibernate.jdbc.batch_size) inserido como o Hibernate faria com cada estratégia de id:
+// IDENTITY desliga o batch de inserts, então é um executeUpdate + getGeneratedKeys por linha; com o id vindo do
+// gerador (TSID ou blocos do order_id_sequence) as 50 linhas vão em um único executeBatch.
+// Roda no H2 em memória: sem ida e volta de rede, a vantagem do batch aqui é o piso do que se vê no MySQL.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderInsertIdBenchmark {
+    private static final int BATCH = 50;
+    private static final String COLUMNS = "order_number, product_id, quantity, total_value, currency, order_status, created_at";
+
+    @Param({"identity", "tsid", "pooled"})
+    private String strategy;
+
+    private HikariDataSource dataSource;
+    private OrderIdGenerator generator;
+    private long sequence;
+
+    @Setup
+    public void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:order_insert_id;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+
+        var jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        jdbcTemplate.execute("CREATE TABLE orders (id BIGINT NOT NULL" + ("identity".equals(strategy) ? " AUTO_INCREMENT" : "")
+                + " PRIMARY KEY, order_number VARCHAR(255) NOT NULL UNIQUE, product_id BIGINT NOT NULL, quantity INT NOT NULL,"
+                + " total_value DECIMAL(19, 2) NOT NULL, currency VARCHAR(3) NOT NULL, order_status VARCHAR(32) NOT NULL,"
+                + " created_at BIGINT NOT NULL)");
+
+        if ("pooled".equals(strategy)) {
+            var pooled = new PooledSequenceOrderIdGenerator(jdbcTemplate, new DataSourceTransactionManager(dataSource), 1000);
+            pooled.createSequenceTable();
+            generator = pooled;
+        } else {
+            generator = new TsidOrderIdGenerator(1);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        dataSource.close();
+    }
+
+    @Benchmark
+    public long insertBatch() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            long last = "identity".equals(strategy) ? insertWithIdentity(connection) : insertWithGeneratedIds(connection);
+            connection.commit();
+            return last;
+        }
+    }
+
+    private long insertWithIdentity(Connection connection) throws SQLException {
+        long last = 0;
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO orders (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?)", Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < BATCH; i++) {
+                bind(statement, 1);
+                statement.executeUpdate();
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    keys.next();
+                    last = keys.getLong(1);
+                }
+            }
+        }
+        return last;
+    }
+
+    private long insertWithGeneratedIds(Connection connection) throws SQLException {
+        long last = 0;
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO orders (id, " + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < BATCH; i++) {
+                last = generator.nextId();
+                statement.setLong(1, last);
+                bind(statement, 2);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+        return last;
+    }
+
+    private void bind(PreparedStatement statement, int first) throws SQLException {
+        statement.setString(first, "ORD-" + sequence++);
+        statement.setLong(first + 1, 1);
+        statement.setInt(first + 2, 2);
+        statement.setBigDecimal(first + 3, BigDecimal.TEN);
+        statement.setString(first + 4, "BRL");
+        statement.setString(first + 5, "RECEIVED");
+        statement.setLong(first + 6, System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,113 @@
+package com.santanna.serviceorder.infrastructure.repository;
+
+import com.santanna.serviceorder.application.dto.OrderResponseDto;
+import com.santanna.serviceorder.application.utils.LoggerUtils;
+import com.santanna.serviceorder.domain.common.PaginatedResult;
+import com.santanna.serviceorder.domain.model.OrderConverter;
+import com.santanna.serviceorder.domain.model.OrderStatus;
+import com.santanna.serviceorder.infrastructure.persistence.SpringDataOrderRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// Uma página de GET /orders contra um H2 em memória com o mesmo mapeamento da aplicação: o caminho anterior
+// (entidades gerenciadas -> Order -> DTO) contra a projeção somente-leitura direto no DTO. As duas variantes
+// rodam em transação somente-leitura e executam a mesma contagem, então a diferença é a hidratação.
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderListBenchmark {
+    private static final int ORDERS = 10_000;
+    private static final int PAGE = 5;
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private HikariDataSource dataSource;
+    private EntityManagerFactory entityManagerFactory;
+    private TransactionTemplate readOnly;
+    private SpringDataOrderRepository springDataOrderRepository;
+    private OrderRepositoryImpl repository;
+
+    @Setup
+    public void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:order_list;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+
+        var factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan("com.santanna.serviceorder.infrastructure.entity");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create",
+                "hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName()));
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+
+        var transactionManager = new JpaTransactionManager(entityManagerFactory);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        var entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        springDataOrderRepository = new JpaRepositoryFactory(entityManager).getRepository(SpringDataOrderRepository.class);
+        var jdbcTemplate = new JdbcTemplate(dataSource);
+        var productDictionary = new ProductDictionary(jdbcTemplate, null, new LoggerUtils(10), 10_000);
+        repository = new OrderRepositoryImpl(springDataOrderRepository, null, entityManager, null, null,
+                null, productDictionary, 1000);
+
+        List<Object[]> rows = new ArrayList<>(ORDERS);
+        long createdAt = System.currentTimeMillis();
+        for (int i = 0; i < ORDERS; i++) {
+            rows.add(new Object[]{i + 1L, "ORD" + i, productDictionary.idFor("Product " + (i % 200)), i % 7 + 1,
+                    1999L + i, "BRL", OrderStatus.values()[i % OrderStatus.values().length].name(), createdAt + i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO orders (id, order_number, product_id, quantity, total_value, currency, "
+                + "order_status, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManagerFactory.close();
+        dataSource.close();
+    }
+
+    // GetOrderUseCase.getAllOrders antes da projeção
+    @Benchmark
+    public PaginatedResult<OrderResponseDto> entities() {
+        return readOnly.execute(status -> {
+            var entityPage = springDataOrderRepository.findAll(PageRequest.of(PAGE, pageSize));
+            return new PaginatedResult<>(
+                    entityPage.getContent().stream()
+                            .map(repository::toDomain)
+                            .map(OrderConverter::toDto)
+                            .collect(Collectors.toList()),
+                    entityPage.getNumber(),
+                    entityPage.getSize(),
+                    entityPage.getTotalElements());
+        });
+    }
+
+    @Benchmark
+    public PaginatedResult<OrderResponseDto> projection() {
+        return readOnly.execute(status -> repository.findAllView(PAGE, pageSize));
+    }
+}
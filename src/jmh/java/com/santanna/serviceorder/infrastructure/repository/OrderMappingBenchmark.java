@@ -0,0 +1,58 @@
+package com.santanna.serviceorder.infrastructure.repository;
+
+import com.santanna.serviceorder.application.dto.OrderResponseDto;
+import com.santanna.serviceorder.domain.model.Order;
+import com.santanna.serviceorder.domain.model.OrderConverter;
+import com.santanna.serviceorder.domain.model.OrderStatus;
+import com.santanna.serviceorder.infrastructure.entity.OrderEntity;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+// Conversões feitas em toda leitura e escrita: entidade <-> domínio e domínio -> DTO
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderMappingBenchmark {
+
+    private OrderRepositoryImpl repository;
+    private OrderEntity entity;
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        // Os mapeadores só usam o dicionário de produtos, aqui já aquecido como após a inicialização
+        ProductDictionary productDictionary = new ProductDictionary(null, null, null, 10_000);
+        productDictionary.put(17, "Notebook Pro 14");
+        repository = new OrderRepositoryImpl(null, null, null, null, null, null, productDictionary, 1000);
+        long createdAt = Order.toEpochMilli(LocalDateTime.of(2025, 6, 1, 10, 15, 30));
+        entity = new OrderEntity(742_113_908_224L, "ORD12345", 17, 3,
+                899_970L, "BRL", OrderStatus.PROCESSED, createdAt);
+        order = new Order(742_113_908_224L, "ORD12345", "Notebook Pro 14", 3,
+                899_970L, Order.DEFAULT_CURRENCY, OrderStatus.PROCESSED, createdAt);
+    }
+
+    @Benchmark
+    public Order toDomain() {
+        return repository.toDomain(entity);
+    }
+
+    @Benchmark
+    public OrderEntity toEntity() {
+        return repository.toEntity(order);
+    }
+
+    @Benchmark
+    public OrderResponseDto toDto() {
+        return OrderConverter.toDto(order);
+    }
+
+    @Benchmark
+    public OrderResponseDto entityToDto() {
+        return OrderConverter.toDto(repository.toDomain(entity));
+    }
+}
@@ -0,0 +1,145 @@
+package com.santanna.serviceorder.interfaces.messaging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.santanna.serviceorder.application.dto.OrderRequestDto;
+import com.santanna.serviceorder.application.usecase.CreateOrderUseCase;
+import com.santanna.serviceorder.application.utils.LoggerUtils;
+import com.santanna.serviceorder.application.utils.OrderMetrics;
+import com.santanna.serviceorder.domain.repository.OrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+
+import java.io.OutputStream;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// Ingestão pela fila sem banco: OrderMessageConsumer -> validação -> CreateOrderUseCase com um repositório falso.
+// O que muda entre as combinações é só o custo de log: o LoggerUtils anterior contra o atual, com o appender
+// de console síncrono ou atrás do AsyncAppender do logback-spring.xml (a saída vai para um stream nulo).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class OrderIngestLoggingBenchmark {
+
+    @Param({"legacy", "current"})
+    private String logging;
+
+    @Param({"sync", "async"})
+    private String appender;
+
+    private LoggerContext loggerContext;
+    private OrderMessageConsumer consumer;
+    private OrderRequestDto request;
+    private Date publishedAt;
+
+    @Setup
+    public void setUp() {
+        configureLogback("async".equals(appender));
+
+        LoggerUtils loggerUtils = "legacy".equals(logging) ? new LegacyLoggerUtils() : new LoggerUtils(10);
+        var orderMetrics = new OrderMetrics(new SimpleMeterRegistry());
+        var orderRepository = (OrderRepository) Proxy.newProxyInstance(OrderRepository.class.getClassLoader(),
+                new Class<?>[]{OrderRepository.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("createIfAbsent")) {
+                        return Optional.of(args[0]);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        var createOrderUseCase = new CreateOrderUseCase(loggerUtils, orderRepository, orderMetrics);
+        var validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+        consumer = new OrderMessageConsumer(createOrderUseCase, validator, loggerUtils, orderMetrics);
+        request = new OrderRequestDto("ORD12345", "Notebook Pro 14", 3, new BigDecimal("2999.90"), null);
+        publishedAt = new Date();
+    }
+
+    @TearDown
+    public void tearDown() {
+        loggerContext.reset();
+    }
+
+    @Benchmark
+    public void ingest() {
+        consumer.receiveOrder(request, publishedAt);
+    }
+
+    private void configureLogback(boolean async) {
+        loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        loggerContext.reset();
+
+        var encoder = new PatternLayoutEncoder();
+        encoder.setContext(loggerContext);
+        encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p --- [%15.15t] %-40.40logger{39} : %m%n");
+        encoder.start();
+
+        var console = new OutputStreamAppender<ILoggingEvent>();
+        console.setContext(loggerContext);
+        console.setEncoder(encoder);
+        console.setOutputStream(OutputStream.nullOutputStream());
+        console.start();
+
+        Appender<ILoggingEvent> root = console;
+        if (async) {
+            var asyncAppender = new AsyncAppender();
+            asyncAppender.setContext(loggerContext);
+            asyncAppender.setQueueSize(8192);
+            asyncAppender.setNeverBlock(true);
+            asyncAppender.setIncludeCallerData(false);
+            asyncAppender.addAppender(console);
+            asyncAppender.start();
+            root = asyncAppender;
+        }
+
+        var rootLogger = loggerContext.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        rootLogger.setLevel(Level.INFO);
+        rootLogger.addAppender(root);
+    }
+
+    // Reproduz o LoggerUtils anterior no caminho de ingestão: LoggerFactory.getLogger e um array de varargs
+    // a cada chamada, sem verificação de nível e sem amostragem; as linhas hoje em DEBUG eram INFO.
+    static final class LegacyLoggerUtils extends LoggerUtils {
+        LegacyLoggerUtils() {
+            super(Integer.MAX_VALUE);
+        }
+
+        @Override
+        public void logInfo(Class<?> clazz, String message, Object arg) {
+            LoggerFactory.getLogger(clazz).info(message, new Object[]{arg});
+        }
+
+        @Override
+        public void logInfo(Class<?> clazz, String message, Object arg1, Object arg2) {
+            LoggerFactory.getLogger(clazz).info(message, new Object[]{arg1, arg2});
+        }
+
+        @Override
+        public void logInfoSampled(Class<?> clazz, String message, Object arg) {
+            LoggerFactory.getLogger(clazz).info(message, new Object[]{arg});
+        }
+
+        @Override
+        public void logDebug(Class<?> clazz, String message, Object arg) {
+            LoggerFactory.getLogger(clazz).info(message, new Object[]{arg});
+        }
+
+        @Override
+        public void logWarn(Class<?> clazz, String message, Object arg1, Object arg2) {
+            LoggerFactory.getLogger(clazz).warn(message, new Object[]{arg1, arg2});
+        }
+    }
+}
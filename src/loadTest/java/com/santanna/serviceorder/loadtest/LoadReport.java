@@ -0,0 +1,159 @@
+package com.santanna.serviceorder.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// Latências por operação em histogramas HDR (3 dígitos significativos, até 60 s); respostas com erro também entram na latência
+public class LoadReport {
+    private static final long HIGHEST_LATENCY_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+    private final Map<Operation, Histogram> latencies = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final long startedAt = System.nanoTime();
+    private volatile long elapsedNanos;
+    private ResourceUsage usage;
+
+    public LoadReport() {
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, new ConcurrentHistogram(HIGHEST_LATENCY_NANOS, 3));
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    public void record(Operation operation, long latencyNanos, boolean success) {
+        latencies.get(operation).recordValue(Math.min(latencyNanos, HIGHEST_LATENCY_NANOS));
+        if (!success) {
+            errors.get(operation).increment();
+        }
+    }
+
+    public void finish() {
+        elapsedNanos = System.nanoTime() - startedAt;
+    }
+
+    public void finish(ResourceUsage usage) {
+        finish();
+        this.usage = usage;
+    }
+
+    public List<Row> rows() {
+        double seconds = elapsedNanos / 1e9;
+        List<Row> rows = new ArrayList<>();
+        Histogram total = new Histogram(HIGHEST_LATENCY_NANOS, 3);
+        long totalErrors = 0;
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = latencies.get(operation);
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            long operationErrors = errors.get(operation).sum();
+            rows.add(Row.of(operation.getKey(), histogram, operationErrors, seconds));
+            total.add(histogram);
+            totalErrors += operationErrors;
+        }
+        rows.add(Row.of("total", total, totalErrors, seconds));
+        return rows;
+    }
+
+    // Cada operação reativa ao lado da equivalente bloqueante, medidas sob a mesma carga; só pares com as duas no mix.
+    // No laço fechado a vazão de cada uma segue o peso no mix: a comparação está na latência, e a vazão máxima de
+    // cada pilha sai de execuções separadas (ex.: --loadtest.mix=get=1 e --loadtest.mix=reactive-get=1)
+    public List<Comparison> comparisons() {
+        double seconds = elapsedNanos / 1e9;
+        List<Comparison> comparisons = new ArrayList<>();
+        for (Operation reactive : Operation.values()) {
+            Operation blocking = reactive.getBlockingCounterpart();
+            if (blocking == null || latencies.get(reactive).getTotalCount() == 0
+                    || latencies.get(blocking).getTotalCount() == 0) {
+                continue;
+            }
+            comparisons.add(new Comparison(blocking.getKey(),
+                    Row.of(blocking.getKey(), latencies.get(blocking), errors.get(blocking).sum(), seconds),
+                    Row.of(reactive.getKey(), latencies.get(reactive), errors.get(reactive).sum(), seconds)));
+        }
+        return comparisons;
+    }
+
+    public boolean withinErrorRate(double maxErrorRate) {
+        return rows().stream().allMatch(row -> row.errorRate() <= maxErrorRate);
+    }
+
+    public String format() {
+        var text = new StringBuilder();
+        text.append(String.format("Duration: %.1f s%n", elapsedNanos / 1e9));
+        text.append(String.format("%-14s %10s %10s %9s %9s %9s %9s %9s %8s %8s%n",
+                "operation", "count", "ops/s", "p50 ms", "p95 ms", "p99 ms", "p999 ms", "max ms", "errors", "error %"));
+        for (Row row : rows()) {
+            text.append(String.format("%-14s %10d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f %8d %8.2f%n",
+                    row.operation(), row.count(), row.throughput(), row.p50Ms(), row.p95Ms(), row.p99Ms(),
+                    row.p999Ms(), row.maxMs(), row.errors(), row.errorRate() * 100));
+        }
+
+        List<Comparison> comparisons = comparisons();
+        if (!comparisons.isEmpty()) {
+            text.append(String.format("%nBlocking (JPA/Hikari) vs reactive (R2DBC)%n"));
+            text.append(String.format("%-14s %12s %12s %12s %12s %12s %12s%n",
+                    "read", "block ops/s", "react ops/s", "block p50", "react p50", "block p99", "react p99"));
+            for (Comparison comparison : comparisons) {
+                Row blocking = comparison.blocking();
+                Row reactive = comparison.reactive();
+                text.append(String.format("%-14s %12.1f %12.1f %12.2f %12.2f %12.2f %12.2f%n",
+                        comparison.read(), blocking.throughput(), reactive.throughput(),
+                        blocking.p50Ms(), reactive.p50Ms(), blocking.p99Ms(), reactive.p99Ms()));
+            }
+        }
+
+        if (usage != null) {
+            long operations = rows().get(rows().size() - 1).count();
+            text.append(String.format("%nCache \"orders\" and database%n"));
+            text.append(String.format("L1 hits %d, L1 misses %d, L1 hit ratio %.2f%%, loads from the database %d%n",
+                    usage.l1Hits(), usage.l1Misses(), usage.l1HitRatio() * 100, usage.sourceLoads()));
+            text.append(String.format("negative cache hits %d, coalesced loads %d%n",
+                    usage.negativeHits(), usage.coalescedLoads()));
+            text.append(String.format("JDBC statements %d, %.2f per operation%n",
+                    usage.statements(), operations == 0 ? 0 : (double) usage.statements() / operations));
+        }
+        return text.toString();
+    }
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("durationSeconds", elapsedNanos / 1e9);
+        report.put("operations", rows());
+        report.put("blockingVsReactive", comparisons());
+        if (usage != null) {
+            report.put("resources", usage);
+        }
+        return report;
+    }
+
+    public record Comparison(String read, Row blocking, Row reactive) {
+    }
+
+    public record Row(String operation, long count, double throughput, double p50Ms, double p95Ms, double p99Ms,
+                      double p999Ms, double maxMs, long errors, double errorRate) {
+
+        static Row of(String operation, Histogram histogram, long errors, double seconds) {
+            long count = histogram.getTotalCount();
+            return new Row(operation, count, count / seconds,
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(95)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()),
+                    errors, count == 0 ? 0 : (double) errors / count);
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1e6;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.santanna.serviceorder.loadtest;
+
+import com.santanna.serviceorder.ServiceOrderApplication;
+import com.santanna.serviceorder.application.usecase.exception.NotFoundException;
+import com.santanna.serviceorder.infrastructure.cache.CacheInvalidationPublisher;
+import com.santanna.serviceorder.infrastructure.cache.TwoLevelCacheManager;
+import com.santanna.serviceorder.infrastructure.database.RedisConfig;
+import com.santanna.serviceorder.infrastructure.messaging.RabbitMqConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.amqp.RabbitAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.time.Duration;
+
+// Sobe a aplicação completa sem serviços externos: as configurações de Redis e RabbitMQ ficam de fora,
+// o cache "orders" usa um L2 em memória e as mensagens da fila são entregues direto ao OrderMessageConsumer.
+// Como no ServiceOrderApplication, o R2DBC do Boot fica de fora: o caminho reativo usa o pool do ReactiveReadConfig,
+// ligado por order.read.reactive.enabled no profile loadtest.
+@SpringBootConfiguration
+@EnableAutoConfiguration(exclude = {
+        RedisAutoConfiguration.class,
+        RedisRepositoriesAutoConfiguration.class,
+        RabbitAutoConfiguration.class,
+        R2dbcAutoConfiguration.class,
+        R2dbcTransactionManagerAutoConfiguration.class
+})
+@AutoConfigurationPackage(basePackageClasses = ServiceOrderApplication.class)
+@ComponentScan(basePackageClasses = ServiceOrderApplication.class, excludeFilters = @ComponentScan.Filter(
+        type = FilterType.ASSIGNABLE_TYPE,
+        classes = {ServiceOrderApplication.class, RedisConfig.class, RabbitMqConfig.class}))
+@EnableCaching
+@EnableScheduling
+public class LoadTestApplication {
+
+    public static void main(String[] args) throws Exception {
+        var application = new SpringApplication(LoadTestApplication.class);
+        application.setAdditionalProfiles("loadtest");
+
+        boolean passed;
+        try (ConfigurableApplicationContext context = application.run(args)) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            passed = context.getBean(LoadTestRunner.class).run(port);
+        }
+        System.exit(passed ? 0 : 1);
+    }
+
+    @Bean
+    public TwoLevelCacheManager cacheManager(ObjectProvider<MeterRegistry> meterRegistry,
+                                             @Value("${order.cache.l1.maximum-size:10000}") long localMaximumSize,
+                                             @Value("${order.cache.l1.ttl-seconds:30}") long localTtlSeconds,
+                                             @Value("${order.cache.negative-ttl-seconds:5}") long negativeTtlSeconds) {
+        // Instância única: não há outras réplicas para receber as invalidações
+        var publisher = new CacheInvalidationPublisher(null) {
+            @Override
+            public void publishEvict(String cacheName, Object key) {
+            }
+
+            @Override
+            public void publishClear(String cacheName) {
+            }
+        };
+
+        var cacheManager = new TwoLevelCacheManager(new ConcurrentMapCacheManager(), publisher,
+                meterRegistry.getIfAvailable(), localMaximumSize, Duration.ofSeconds(localTtlSeconds),
+                Duration.ofSeconds(negativeTtlSeconds), LoadTestApplication::isNotFound);
+        cacheManager.setTransactionAware(true);
+        return cacheManager;
+    }
+
+    private static boolean isNotFound(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof NotFoundException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
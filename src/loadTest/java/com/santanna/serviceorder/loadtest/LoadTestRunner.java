@@ -0,0 +1,235 @@
+package com.santanna.serviceorder.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.santanna.serviceorder.application.dto.OrderRequestDto;
+import com.santanna.serviceorder.domain.model.OrderStatus;
+import com.santanna.serviceorder.interfaces.messaging.OrderMessageConsumer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Carga em laço fechado: cada um dos `concurrency` usuários sorteia uma operação do mix, espera a resposta
+// e repete até o fim da fase. As chamadas HTTP passam pelo Tomcat embutido; a ingestão da fila passa pela
+// conversão de mensagem do Spring AMQP e pelo OrderMessageConsumer, como faria o listener.
+@Component
+public class LoadTestRunner {
+    private static final int KNOWN_IDS_CAPACITY = 100_000;
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    private final ObjectProvider<OrderMessageConsumer> messageConsumer;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Jackson2JsonMessageConverter messageConverter = new Jackson2JsonMessageConverter();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final int warmupSeconds;
+    private final int durationSeconds;
+    private final int concurrency;
+    private final int seedOrders;
+    private final OperationMix mix;
+    private final String listQuery;
+    private final double maxErrorRate;
+    private final Path reportDir;
+    private final boolean virtualThreads;
+
+    private final AtomicLong orderSequence = new AtomicLong();
+    private final AtomicLongArray knownIds = new AtomicLongArray(KNOWN_IDS_CAPACITY);
+    private final AtomicLong knownIdCount = new AtomicLong();
+    private URI baseUri;
+
+    public LoadTestRunner(ObjectProvider<OrderMessageConsumer> messageConsumer, ObjectMapper objectMapper,
+                          MeterRegistry meterRegistry,
+                          @Value("${loadtest.warmup-seconds:10}") int warmupSeconds,
+                          @Value("${loadtest.duration-seconds:30}") int durationSeconds,
+                          @Value("${loadtest.concurrency:16}") int concurrency,
+                          @Value("${loadtest.seed-orders:1000}") int seedOrders,
+                          @Value("${loadtest.mix:ingest=15,create=15,get=25,reactive-get=25,list=5,reactive-list=5,update-status=10}") String mix,
+                          @Value("${loadtest.list-query:after=&size=20}") String listQuery,
+                          @Value("${loadtest.max-error-rate:0.01}") double maxErrorRate,
+                          @Value("${loadtest.report-dir:build/reports/loadtest}") String reportDir,
+                          @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.messageConsumer = messageConsumer;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.warmupSeconds = warmupSeconds;
+        this.durationSeconds = durationSeconds;
+        this.concurrency = concurrency;
+        this.seedOrders = seedOrders;
+        this.mix = OperationMix.parse(mix);
+        this.listQuery = listQuery;
+        this.maxErrorRate = maxErrorRate;
+        this.reportDir = Path.of(reportDir);
+        this.virtualThreads = virtualThreads;
+    }
+
+    public boolean run(int port) throws IOException, InterruptedException {
+        baseUri = URI.create("http://localhost:" + port);
+        if (mix.includes(Operation.INGEST) && messageConsumer.getIfAvailable() == null) {
+            throw new IllegalStateException("The ingest operation needs OrderMessageConsumer (order.consumer.batch.enabled=false).");
+        }
+
+        // Modo de threads no relatório: execuções com spring.threads.virtual.enabled=true e false são comparadas lado a lado
+        String threads = virtualThreads ? "virtual" : "platform";
+        String description = String.format("Load test: mix %s, %d users, %s threads, %d s warm-up, %d s measured, %d seed orders%n",
+                mix, concurrency, threads, warmupSeconds, durationSeconds, seedOrders);
+        System.out.print(description);
+        seed();
+
+        runPhase(warmupSeconds, new LoadReport());
+        var report = new LoadReport();
+        var usageAtStart = ResourceUsage.read(meterRegistry);
+        runPhase(durationSeconds, report);
+        report.finish(ResourceUsage.read(meterRegistry).since(usageAtStart));
+
+        String text = report.format();
+        System.out.print(text);
+        Files.createDirectories(reportDir);
+        Files.writeString(reportDir.resolve("report.txt"), description + text);
+        var json = report.toMap();
+        json.put("threads", threads);
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(reportDir.resolve("report.json").toFile(), json);
+        System.out.println("Report written to " + reportDir.toAbsolutePath());
+
+        boolean passed = report.withinErrorRate(maxErrorRate);
+        if (!passed) {
+            System.out.printf("FAILED: error rate above %.2f%% for at least one operation%n", maxErrorRate * 100);
+        }
+        return passed;
+    }
+
+    private void seed() throws InterruptedException {
+        var remaining = new AtomicInteger(seedOrders);
+        try (ExecutorService workers = Executors.newFixedThreadPool(concurrency)) {
+            for (int i = 0; i < concurrency; i++) {
+                workers.submit(() -> {
+                    while (remaining.getAndDecrement() > 0) {
+                        create(ThreadLocalRandom.current());
+                    }
+                });
+            }
+        }
+        if (knownIdCount.get() == 0 && (mix.includes(Operation.GET) || mix.includes(Operation.REACTIVE_GET)
+                || mix.includes(Operation.UPDATE_STATUS))) {
+            throw new IllegalStateException("No seed order could be created; check the application log.");
+        }
+    }
+
+    private void runPhase(int seconds, LoadReport report) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        try (ExecutorService workers = Executors.newFixedThreadPool(concurrency)) {
+            for (int i = 0; i < concurrency; i++) {
+                workers.submit(() -> {
+                    Random random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < deadline) {
+                        Operation operation = mix.next(random);
+                        long start = System.nanoTime();
+                        boolean success = execute(operation, random);
+                        report.record(operation, System.nanoTime() - start, success);
+                    }
+                });
+            }
+        }
+    }
+
+    private boolean execute(Operation operation, Random random) {
+        try {
+            return switch (operation) {
+                case INGEST -> ingest();
+                case CREATE -> create(random);
+                case GET -> send(HttpRequest.newBuilder(uri("/orders/" + randomKnownId(random))).GET());
+                case LIST -> send(HttpRequest.newBuilder(uri("/orders?" + listQuery)).GET());
+                case REACTIVE_GET -> send(HttpRequest.newBuilder(uri("/reactive/orders/" + randomKnownId(random))).GET());
+                case REACTIVE_LIST -> send(HttpRequest.newBuilder(uri("/reactive/orders?" + listQuery)).GET());
+                case UPDATE_STATUS -> send(HttpRequest.newBuilder(uri("/orders/" + randomKnownId(random)
+                                + "/status?newStatus=" + STATUSES[random.nextInt(STATUSES.length)]))
+                        .method("PATCH", HttpRequest.BodyPublishers.noBody()));
+            };
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private boolean ingest() {
+        var properties = new MessageProperties();
+        properties.setTimestamp(new Date());
+        Message message = messageConverter.toMessage(newOrderRequest(), properties);
+        message.getMessageProperties().setInferredArgumentType(OrderRequestDto.class);
+        messageConsumer.getObject().receiveOrder((OrderRequestDto) messageConverter.fromMessage(message),
+                message.getMessageProperties().getTimestamp());
+        return true;
+    }
+
+    private boolean create(Random random) {
+        try {
+            var request = HttpRequest.newBuilder(uri("/orders"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(newOrderRequest())))
+                    .build();
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() != 201) {
+                return false;
+            }
+            addKnownId(objectMapper.readTree(response.body()).get("id").asLong());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private boolean send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        HttpResponse<Void> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.discarding());
+        return response.statusCode() >= 200 && response.statusCode() < 300;
+    }
+
+    private OrderRequestDto newOrderRequest() {
+        long sequence = orderSequence.incrementAndGet();
+        return new OrderRequestDto("LT-" + sequence, "Load test product " + (sequence % 500),
+                (int) (sequence % 9) + 1, BigDecimal.valueOf(1000 + sequence % 9000, 2), null);
+    }
+
+    private URI uri(String path) {
+        return baseUri.resolve(path);
+    }
+
+    private void addKnownId(long id) {
+        knownIds.set((int) (knownIdCount.getAndIncrement() % KNOWN_IDS_CAPACITY), id);
+    }
+
+    // Um índice reservado mas ainda não preenchido devolve 0; nesse caso usa o primeiro id conhecido
+    private long randomKnownId(Random random) {
+        int size = (int) Math.min(knownIdCount.get(), KNOWN_IDS_CAPACITY);
+        long id = knownIds.get(random.nextInt(size));
+        return id != 0 ? id : knownIds.get(0);
+    }
+}
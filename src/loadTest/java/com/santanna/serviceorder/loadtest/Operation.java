@@ -0,0 +1,41 @@
+package com.santanna.serviceorder.loadtest;
+
+public enum Operation {
+    INGEST("ingest"),
+    CREATE("create"),
+    GET("get"),
+    LIST("list"),
+    UPDATE_STATUS("update-status"),
+    // Mesmas leituras pelo caminho não bloqueante (R2DBC + cache assíncrono), comparadas lado a lado no relatório
+    REACTIVE_GET("reactive-get", GET),
+    REACTIVE_LIST("reactive-list", LIST);
+
+    private final String key;
+    private final Operation blockingCounterpart;
+
+    Operation(String key) {
+        this(key, null);
+    }
+
+    Operation(String key, Operation blockingCounterpart) {
+        this.key = key;
+        this.blockingCounterpart = blockingCounterpart;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public Operation getBlockingCounterpart() {
+        return blockingCounterpart;
+    }
+
+    public static Operation of(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equals(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown load test operation: " + key);
+    }
+}
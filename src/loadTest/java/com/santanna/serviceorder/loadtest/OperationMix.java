@@ -0,0 +1,80 @@
+package com.santanna.serviceorder.loadtest;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+// Sorteia a próxima operação conforme os pesos relativos, ex.: "ingest=15,create=15,get=50,list=10,update-status=10"
+public class OperationMix {
+
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+
+    private OperationMix(Map<Operation, Integer> weights) {
+        List<Operation> selected = new ArrayList<>();
+        List<Integer> cumulative = new ArrayList<>();
+        int total = 0;
+        for (var entry : weights.entrySet()) {
+            if (entry.getValue() > 0) {
+                total += entry.getValue();
+                selected.add(entry.getKey());
+                cumulative.add(total);
+            }
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("The load test mix needs at least one operation with a positive weight.");
+        }
+
+        this.operations = selected.toArray(Operation[]::new);
+        this.cumulativeWeights = cumulative.stream().mapToInt(Integer::intValue).toArray();
+        this.totalWeight = total;
+    }
+
+    public static OperationMix parse(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String part : mix.split(",")) {
+            String[] keyValue = part.trim().split("=");
+            if (keyValue.length != 2) {
+                throw new IllegalArgumentException("Invalid load test mix entry: " + part);
+            }
+            weights.put(Operation.of(keyValue[0].trim()), Integer.parseInt(keyValue[1].trim()));
+        }
+        return new OperationMix(weights);
+    }
+
+    public Operation next(Random random) {
+        int value = random.nextInt(totalWeight);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    public boolean includes(Operation operation) {
+        for (Operation selected : operations) {
+            if (selected == operation) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        var description = new StringBuilder();
+        int previous = 0;
+        for (int i = 0; i < operations.length; i++) {
+            if (i > 0) {
+                description.append(',');
+            }
+            description.append(operations[i].getKey()).append('=').append(cumulativeWeights[i] - previous);
+            previous = cumulativeWeights[i];
+        }
+        return description.toString();
+    }
+}
@@ -0,0 +1,41 @@
+package com.santanna.serviceorder.loadtest;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.search.Search;
+
+// Contadores do cache "orders" e do JDBC lidos do Micrometer; a diferença entre o início e o fim da fase medida
+// mostra quanto da carga o cache absorveu e quantas instruções chegaram ao banco.
+// As leituras reativas vão pelo R2DBC e não passam pelo MonitoredDataSource: não entram em statements.
+public record ResourceUsage(long l1Hits, long l1Misses, long sourceLoads, long negativeHits, long coalescedLoads,
+                            long statements) {
+
+    private static final String CACHE = "orders";
+
+    public static ResourceUsage read(MeterRegistry registry) {
+        return new ResourceUsage(
+                sum(registry.find("cache.gets").tags("cache", CACHE, "tier", "l1", "result", "hit")),
+                sum(registry.find("cache.gets").tags("cache", CACHE, "tier", "l1", "result", "miss")),
+                sum(registry.find("cache.loads").tag("cache", CACHE)),
+                sum(registry.find("cache.negative.hits").tag("cache", CACHE)),
+                sum(registry.find("cache.loads.coalesced").tag("cache", CACHE)),
+                sum(registry.find("order.sql.statements")));
+    }
+
+    public ResourceUsage since(ResourceUsage start) {
+        return new ResourceUsage(l1Hits - start.l1Hits, l1Misses - start.l1Misses, sourceLoads - start.sourceLoads,
+                negativeHits - start.negativeHits, coalescedLoads - start.coalescedLoads, statements - start.statements);
+    }
+
+    // Uma falha no L1 é conferida de novo antes da carga, então l1Misses conta até duas vezes a mesma leitura
+    public double l1HitRatio() {
+        long lookups = l1Hits + l1Misses;
+        return lookups == 0 ? 0 : (double) l1Hits / lookups;
+    }
+
+    private static long sum(Search search) {
+        double total = search.counters().stream().mapToDouble(counter -> counter.count()).sum()
+                + search.functionCounters().stream().mapToDouble(FunctionCounter::count).sum();
+        return Math.round(total);
+    }
+}
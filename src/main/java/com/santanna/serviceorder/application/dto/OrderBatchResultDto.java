@@ -0,0 +1,35 @@
+package com.santanna.serviceorder.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record OrderBatchResultDto(
+        @Schema(description = "Número do pedido", example = "ORD12345")
+        String orderNumber,
+
+        @Schema(description = "Resultado do processamento do registro", example = "CREATED")
+        OrderBatchStatus status,
+
+        @Schema(description = "Pedido criado, presente apenas quando o status é CREATED")
+        OrderResponseDto order,
+
+        @Schema(description = "Motivo da rejeição do registro", example = "There is already an order with this number.")
+        String message
+) {
+
+    public static OrderBatchResultDto created(OrderResponseDto order) {
+        return new OrderBatchResultDto(order.orderNumber(), OrderBatchStatus.CREATED, order, null);
+    }
+
+    public static OrderBatchResultDto duplicate(String orderNumber) {
+        return new OrderBatchResultDto(orderNumber, OrderBatchStatus.DUPLICATE, null,
+                "There is already an order with this number.");
+    }
+
+    public static OrderBatchResultDto invalid(String orderNumber, String message) {
+        return new OrderBatchResultDto(orderNumber, OrderBatchStatus.INVALID, null, message);
+    }
+
+    public static OrderBatchResultDto failed(String orderNumber, String message) {
+        return new OrderBatchResultDto(orderNumber, OrderBatchStatus.FAILED, null, message);
+    }
+}
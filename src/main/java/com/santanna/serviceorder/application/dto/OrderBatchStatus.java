@@ -0,0 +1,5 @@
+package com.santanna.serviceorder.application.dto;
+
+public enum OrderBatchStatus {
+    CREATED, DUPLICATE, INVALID, FAILED
+}
@@ -5,15 +5,20 @@ import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 
 import java.math.BigDecimal;
 
 public record OrderRequestDto(@Schema(description = "Número único do pedido", example = "ORD12345")
                               @NotBlank(message = "O número do pedido é obrigatório.")
+                              // varchar(255): o INSERT IGNORE do order_numbers truncaria um número maior
+                              @Size(max = 255, message = "O número do pedido deve ter no máximo 255 caracteres.")
                               String orderNumber,
 
                               @Schema(description = "Nome do produto", example = "Produto Exemplo")
                               @NotBlank(message = "O nome do produto é obrigatório.")
+                              @Size(max = 255, message = "O nome do produto deve ter no máximo 255 caracteres.")
                               String productName,
 
                               @Schema(description = "Quantidade de itens", example = "10")
@@ -24,6 +29,10 @@ public record OrderRequestDto(@Schema(description = "Número único do pedido",
                               @Schema(description = "Preço unitário do produto", example = "100.00")
                               @NotNull(message = "O preço unitário é obrigatório.")
                               @DecimalMin(value = "0.01", message = "O preço unitário deve ser maior que zero.")
-                              BigDecimal unitPrice
+                              BigDecimal unitPrice,
+
+                              @Schema(description = "Moeda do preço unitário (ISO 4217); BRL quando omitida", example = "BRL")
+                              @Pattern(regexp = "[A-Z]{3}", message = "A moeda deve ser um código ISO 4217.")
+                              String currency
 ) {
 }
@@ -25,6 +25,9 @@ public record OrderResponseDto (
     @Schema(description = "Valor total do pedido", example = "1000.00")
     BigDecimal totalValue,
 
+    @Schema(description = "Moeda do valor total (ISO 4217)", example = "BRL")
+    String currency,
+
     @Schema(description = "Status do pedido", example = "PROCESSED")
     OrderStatus status,
 
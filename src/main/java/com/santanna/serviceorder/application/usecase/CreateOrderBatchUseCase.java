@@ -0,0 +1,124 @@
+package com.santanna.serviceorder.application.usecase;
+
+import com.santanna.serviceorder.application.dto.OrderBatchResultDto;
+import com.santanna.serviceorder.application.dto.OrderRequestDto;
+import com.santanna.serviceorder.application.utils.LoggerUtils;
+import com.santanna.serviceorder.application.utils.OrderMetrics;
+import com.santanna.serviceorder.domain.builder.OrderDirector;
+import com.santanna.serviceorder.domain.builder.objectbuild.CreateOrderBuilder;
+import com.santanna.serviceorder.domain.exception.DomainException;
+import com.santanna.serviceorder.domain.model.Money;
+import com.santanna.serviceorder.domain.model.Order;
+import com.santanna.serviceorder.domain.model.OrderConverter;
+import com.santanna.serviceorder.domain.model.OrderStatus;
+import com.santanna.serviceorder.domain.repository.OrderRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.transaction.Transactional;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Cria um lote de pedidos em uma única transação: uma consulta verifica todos os números de pedido
+// e os novos pedidos são gravados juntos para o Hibernate agrupar os inserts.
+// Os resultados seguem a mesma ordem das requisições.
+@Service
+@Timed(value = "order.usecase", histogram = true)
+public class CreateOrderBatchUseCase {
+
+    private final LoggerUtils loggerUtils;
+    private final OrderRepository orderRepository;
+    private final Validator validator;
+    private final OrderMetrics orderMetrics;
+
+    public CreateOrderBatchUseCase(LoggerUtils loggerUtils, OrderRepository orderRepository, Validator validator,
+                                   OrderMetrics orderMetrics) {
+        this.loggerUtils = loggerUtils;
+        this.orderRepository = orderRepository;
+        this.validator = validator;
+        this.orderMetrics = orderMetrics;
+    }
+
+    @Transactional
+    public List<OrderBatchResultDto> execute(List<OrderRequestDto> requests) {
+        var results = new OrderBatchResultDto[requests.size()];
+        Map<String, Integer> candidates = new LinkedHashMap<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            var request = requests.get(i);
+            Set<ConstraintViolation<OrderRequestDto>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                results[i] = OrderBatchResultDto.invalid(request.orderNumber(), describe(violations));
+            } else if (candidates.putIfAbsent(request.orderNumber(), i) != null) {
+                results[i] = OrderBatchResultDto.duplicate(request.orderNumber());
+            }
+        }
+
+        Set<String> existing = candidates.isEmpty()
+                ? Set.of()
+                : orderRepository.findExistingOrderNumbers(candidates.keySet());
+
+        List<Order> newOrders = new ArrayList<>(candidates.size());
+        List<Integer> newOrderIndexes = new ArrayList<>(candidates.size());
+        long createdAt = System.currentTimeMillis();
+        for (var candidate : candidates.entrySet()) {
+            int index = candidate.getValue();
+            if (existing.contains(candidate.getKey())) {
+                results[index] = OrderBatchResultDto.duplicate(candidate.getKey());
+                continue;
+            }
+            try {
+                newOrders.add(toOrder(requests.get(index), createdAt));
+                newOrderIndexes.add(index);
+            } catch (DomainException e) {
+                // Moeda desconhecida, preço com frações menores que a unidade mínima ou total fora do intervalo
+                results[index] = OrderBatchResultDto.invalid(candidate.getKey(), e.getMessage());
+            }
+        }
+
+        var savedOrders = newOrders.isEmpty() ? List.<Order>of() : orderRepository.saveAll(newOrders);
+        for (int i = 0; i < savedOrders.size(); i++) {
+            results[newOrderIndexes.get(i)] = OrderBatchResultDto.created(OrderConverter.toDto(savedOrders.get(i)));
+        }
+
+        for (var result : results) {
+            orderMetrics.recordCreateOnCommit(OrderMetrics.BATCH, result.status());
+        }
+
+        loggerUtils.logInfo(CreateOrderBatchUseCase.class, "Order batch processed. Received: {}, created: {}",
+                requests.size(), savedOrders.size());
+
+        return Arrays.asList(results);
+    }
+
+    private Order toOrder(OrderRequestDto requestDto, long createdAt) {
+        var director = new OrderDirector(new CreateOrderBuilder());
+
+        director.getBuilder(
+                null,
+                requestDto.orderNumber(),
+                requestDto.productName(),
+                requestDto.quantity(),
+                requestDto.unitPrice(),
+                Money.currency(requestDto.currency()),
+                OrderStatus.PROCESSED,
+                createdAt
+        );
+
+        return director.getOrderBuilder();
+    }
+
+    private String describe(Set<ConstraintViolation<OrderRequestDto>> violations) {
+        StringBuilder sb = new StringBuilder("Validation errors: ");
+        for (ConstraintViolation<OrderRequestDto> violation : violations) {
+            sb.append(violation.getPropertyPath()).append(" ").append(violation.getMessage()).append("; ");
+        }
+        return sb.toString();
+    }
+}
@@ -1,42 +1,37 @@
 package com.santanna.serviceorder.application.usecase;
 
+import com.santanna.serviceorder.application.dto.OrderBatchStatus;
 import com.santanna.serviceorder.application.dto.OrderRequestDto;
 import com.santanna.serviceorder.application.dto.OrderResponseDto;
 import com.santanna.serviceorder.application.usecase.exception.BusinessException;
 import com.santanna.serviceorder.application.utils.LoggerUtils;
+import com.santanna.serviceorder.application.utils.OrderMetrics;
 import com.santanna.serviceorder.domain.builder.objectbuild.CreateOrderBuilder;
 import com.santanna.serviceorder.domain.builder.OrderDirector;
+import com.santanna.serviceorder.domain.model.Money;
 import com.santanna.serviceorder.domain.model.OrderConverter;
 import com.santanna.serviceorder.domain.model.OrderStatus;
 import com.santanna.serviceorder.domain.repository.OrderRepository;
+import io.micrometer.core.annotation.Timed;
 import jakarta.transaction.Transactional;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
-
 @Service
+@Timed(value = "order.usecase", histogram = true)
 public class CreateOrderUseCase {
 
     private final LoggerUtils loggerUtils;
     private final OrderRepository orderRepository;
+    private final OrderMetrics orderMetrics;
 
-    public CreateOrderUseCase(LoggerUtils loggerUtils, OrderRepository orderRepository) {
+    public CreateOrderUseCase(LoggerUtils loggerUtils, OrderRepository orderRepository, OrderMetrics orderMetrics) {
         this.loggerUtils = loggerUtils;
         this.orderRepository = orderRepository;
-
+        this.orderMetrics = orderMetrics;
     }
 
     @Transactional
     public OrderResponseDto execute(OrderRequestDto requestDto) {
-
-
-        boolean isOrderPresent = orderRepository.findByOrderNumber(requestDto.orderNumber()).isPresent();
-        if (isOrderPresent) {
-            throw new BusinessException("There is already an order with this number.");
-        }
-
-
-
         var createOrderBuilder = new CreateOrderBuilder();
         var director = new OrderDirector(createOrderBuilder);
 
@@ -46,15 +41,22 @@ public class CreateOrderUseCase {
                 requestDto.productName(),
                 requestDto.quantity(),
                 requestDto.unitPrice(),
+                Money.currency(requestDto.currency()),
                 OrderStatus.PROCESSED,
-                LocalDateTime.now()
+                System.currentTimeMillis()
         );
 
         var createdOrder = director.getOrderBuilder();
 
-        var savedOrder = orderRepository.save(createdOrder);
+        var savedOrder = orderRepository.createIfAbsent(createdOrder).orElse(null);
+        if (savedOrder == null) {
+            // A exceção desfaz a transação, então a duplicidade é contada na hora
+            orderMetrics.recordCreate(OrderMetrics.SINGLE, OrderBatchStatus.DUPLICATE);
+            throw new BusinessException("There is already an order with this number.");
+        }
+        orderMetrics.recordCreateOnCommit(OrderMetrics.SINGLE, OrderBatchStatus.CREATED);
 
-        loggerUtils.logInfo(CreateOrderUseCase.class, "Order created successfully. ID: {}", createdOrder.getId());
+        loggerUtils.logInfoSampled(CreateOrderUseCase.class, "Order created successfully. ID: {}", savedOrder.getId());
 
         return OrderConverter.toDto(savedOrder);
     }
@@ -0,0 +1,53 @@
+package com.santanna.serviceorder.application.usecase;
+
+import com.santanna.serviceorder.application.dto.OrderBatchResultDto;
+import com.santanna.serviceorder.application.dto.OrderRequestDto;
+import com.santanna.serviceorder.application.usecase.exception.BusinessException;
+import com.santanna.serviceorder.domain.exception.DomainException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+// Alternativa a um lote que falhou inteiro: quando um número de pedido é gravado por outra requisição entre a
+// verificação e o commit, o lote esbarra na chave de order_numbers. Um a um, cada pedido roda na própria transação
+// do CreateOrderUseCase e só o registro em conflito sai como DUPLICATE ou FAILED.
+@Service
+public class CreateOrdersOneByOneUseCase {
+
+    private final CreateOrderUseCase createOrderUseCase;
+    private final Validator validator;
+
+    public CreateOrdersOneByOneUseCase(CreateOrderUseCase createOrderUseCase, Validator validator) {
+        this.createOrderUseCase = createOrderUseCase;
+        this.validator = validator;
+    }
+
+    public List<OrderBatchResultDto> execute(List<OrderRequestDto> requests) {
+        List<OrderBatchResultDto> results = new ArrayList<>(requests.size());
+        for (OrderRequestDto request : requests) {
+            Set<ConstraintViolation<OrderRequestDto>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                StringBuilder sb = new StringBuilder("Validation errors: ");
+                for (ConstraintViolation<OrderRequestDto> violation : violations) {
+                    sb.append(violation.getPropertyPath()).append(" ").append(violation.getMessage()).append("; ");
+                }
+                results.add(OrderBatchResultDto.invalid(request.orderNumber(), sb.toString()));
+                continue;
+            }
+            try {
+                results.add(OrderBatchResultDto.created(createOrderUseCase.execute(request)));
+            } catch (BusinessException e) {
+                results.add(OrderBatchResultDto.duplicate(request.orderNumber()));
+            } catch (DomainException e) {
+                results.add(OrderBatchResultDto.invalid(request.orderNumber(), e.getMessage()));
+            } catch (Exception e) {
+                results.add(OrderBatchResultDto.failed(request.orderNumber(), e.getMessage()));
+            }
+        }
+        return results;
+    }
+}
@@ -4,11 +4,13 @@ import com.santanna.serviceorder.application.usecase.exception.BusinessException
 import com.santanna.serviceorder.application.usecase.exception.NotFoundException;
 import com.santanna.serviceorder.application.utils.LoggerUtils;
 import com.santanna.serviceorder.domain.repository.OrderRepository;
+import io.micrometer.core.annotation.Timed;
 import jakarta.transaction.Transactional;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 
 @Service
+@Timed(value = "order.usecase", histogram = true)
 public class DeleteOrderUseCase {
 
 
@@ -0,0 +1,40 @@
+package com.santanna.serviceorder.application.usecase;
+
+import com.santanna.serviceorder.application.dto.OrderResponseDto;
+import com.santanna.serviceorder.application.utils.LoggerUtils;
+import com.santanna.serviceorder.domain.model.OrderConverter;
+import com.santanna.serviceorder.domain.model.OrderStatus;
+import com.santanna.serviceorder.domain.repository.OrderRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+@Service
+@Timed(value = "order.usecase", histogram = true)
+public class ExportOrdersUseCase {
+
+    private final LoggerUtils loggerUtils;
+    private final OrderRepository orderRepository;
+
+    public ExportOrdersUseCase(LoggerUtils loggerUtils, OrderRepository orderRepository) {
+        this.loggerUtils = loggerUtils;
+        this.orderRepository = orderRepository;
+    }
+
+    // Cada pedido é entregue ao sink assim que lido do cursor; nada da exportação fica acumulado em memória.
+    @Transactional(readOnly = true)
+    public long execute(OrderStatus status, LocalDateTime createdFrom, LocalDateTime createdTo,
+                        Consumer<OrderResponseDto> sink) {
+        loggerUtils.logInfo(ExportOrdersUseCase.class, "Exporting orders. Status: {}, From: {}, To: {}",
+                status, createdFrom, createdTo);
+
+        long exported = orderRepository.streamAll(status, createdFrom, createdTo,
+                order -> sink.accept(OrderConverter.toDto(order)));
+
+        loggerUtils.logInfo(ExportOrdersUseCase.class, "Orders exported successfully. Total: {}", exported);
+        return exported;
+    }
+}
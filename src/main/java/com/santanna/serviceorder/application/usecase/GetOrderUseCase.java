@@ -1,17 +1,26 @@
 package com.santanna.serviceorder.application.usecase;
 
 import com.santanna.serviceorder.application.dto.OrderResponseDto;
+import com.santanna.serviceorder.application.usecase.exception.BusinessException;
 import com.santanna.serviceorder.application.usecase.exception.NotFoundException;
+import com.santanna.serviceorder.application.utils.CursorCodec;
 import com.santanna.serviceorder.application.utils.LoggerUtils;
+import com.santanna.serviceorder.domain.common.CursorPage;
 import com.santanna.serviceorder.domain.common.PaginatedResult;
+import com.santanna.serviceorder.domain.common.SliceResult;
+import com.santanna.serviceorder.domain.exception.DomainException;
 import com.santanna.serviceorder.domain.model.OrderConverter;
+import com.santanna.serviceorder.domain.model.OrderStatus;
 import com.santanna.serviceorder.domain.repository.OrderRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "order.usecase", histogram = true)
 public class GetOrderUseCase {
 
 
@@ -23,30 +32,98 @@ public class GetOrderUseCase {
         this.orderRepository = orderRepository;
     }
 
-    @Cacheable(value = "orders", key = "#id")
+    // sync: misses concorrentes para o mesmo id compartilham uma única ida ao banco
+    @Cacheable(value = "orders", key = "#id", sync = true)
     public OrderResponseDto getById(Long id) {
-        loggerUtils.logInfo(GetOrderUseCase.class, "Fetching order by ID: {}", id);
+        loggerUtils.logDebug(GetOrderUseCase.class, "Fetching order by ID: {}", id);
 
         var order = orderRepository.findById(id).orElseThrow(()-> new NotFoundException("Order not found"));
-        loggerUtils.logInfo(GetOrderUseCase.class, "Order found. ID: {}", id);
+        loggerUtils.logInfoSampled(GetOrderUseCase.class, "Order found. ID: {}", id);
 
         return OrderConverter.toDto(order);
     }
 
 
+    // As listagens já chegam do repositório como DTOs, projetadas em transações somente-leitura
     public PaginatedResult<OrderResponseDto> getAllOrders(int page, int size) {
         loggerUtils.logInfo(GetOrderUseCase.class, "Fetching all orders with pagination");
-        var orders = orderRepository.findAll(page, size);
+        var orders = orderRepository.findAllView(page, size);
 
-        loggerUtils.logInfo(GetOrderUseCase.class, "Retrieved {} orders successfully");
+        loggerUtils.logInfo(GetOrderUseCase.class, "Retrieved {} orders successfully", orders.getContent().size());
+
+        return orders;
+    }
+
+    // Página sem COUNT(*): o repositório busca size + 1 linhas e informa apenas se há próxima página
+    public SliceResult<OrderResponseDto> getOrdersSlice(int page, int size) {
+        loggerUtils.logInfo(GetOrderUseCase.class, "Fetching orders slice");
+        return orderRepository.findSliceView(page, size);
+    }
+
+    // Mesma página do getAllOrders, mas com o total vindo da contagem em cache em vez de um COUNT(*) por chamada
+    public PaginatedResult<OrderResponseDto> getAllOrdersWithApproximateTotal(int page, int size) {
+        loggerUtils.logInfo(GetOrderUseCase.class, "Fetching orders with approximate total");
+        var orders = orderRepository.findSliceView(page, size);
+        var count = orderRepository.approximateCount();
+
+        // Página além do fim: nada foi visto, então page * size não diz quantos pedidos existem
+        long seen = (long) page * size + orders.getContent().size();
+        long total = orders.getContent().isEmpty() ? count.total()
+                : orders.isHasNext() ? Math.max(count.total(), seen + 1) : seen;
 
         return new PaginatedResult<>(
-                orders.getContent().stream()
-                        .map(OrderConverter::toDto)
-                        .collect(Collectors.toList()),
+                orders.getContent(),
                 orders.getPageNumber(),
                 orders.getPageSize(),
-                orders.getTotalElements()
+                total,
+                true,
+                count.countedAt()
+        );
+    }
+
+    // Paginação por chave: busca size + 1 linhas a partir do último ID visto para saber se há próxima página,
+    // sem OFFSET e sem COUNT(*).
+    public CursorPage<OrderResponseDto> getOrdersAfter(String after, int size) {
+        loggerUtils.logInfo(GetOrderUseCase.class, "Fetching orders by cursor");
+        if (size <= 0) {
+            throw new DomainException("Page size must be greater than zero.");
+        }
+
+        var orders = orderRepository.findAfterView(CursorCodec.decode(after), size + 1);
+        boolean hasNext = orders.size() > size;
+        var page = hasNext ? orders.subList(0, size) : orders;
+
+        String nextCursor = hasNext ? CursorCodec.encode(page.get(page.size() - 1).id()) : null;
+        return new CursorPage<>(page, size, nextCursor);
+    }
+
+    // Mesma paginação por chave, pela posição (createdAt, id) do último pedido da página: cada página lê
+    // no máximo size + 1 entradas do índice por status, sem OFFSET, qualquer que seja a profundidade.
+    public CursorPage<OrderResponseDto> getOrdersByStatus(Set<OrderStatus> statuses, String after, int size) {
+        loggerUtils.logInfo(GetOrderUseCase.class, "Fetching orders by status: {}", statuses);
+        if (size <= 0) {
+            throw new DomainException("Page size must be greater than zero.");
+        }
+        if (statuses.isEmpty()) {
+            throw new BusinessException("At least one status is required.");
+        }
+
+        var position = CursorCodec.decodePosition(after);
+        var orders = orderRepository.findByStatusBefore(statuses, position.createdAt(), position.id(), size + 1);
+        boolean hasNext = orders.size() > size;
+        var page = hasNext ? orders.subList(0, size) : orders;
+
+        String nextCursor = null;
+        if (hasNext) {
+            var last = page.get(page.size() - 1);
+            nextCursor = CursorCodec.encode(new CursorCodec.Position(last.getCreatedAt(), last.getId()));
+        }
+        return new CursorPage<>(
+                page.stream()
+                        .map(OrderConverter::toDto)
+                        .collect(Collectors.toList()),
+                size,
+                nextCursor
         );
     }
 }
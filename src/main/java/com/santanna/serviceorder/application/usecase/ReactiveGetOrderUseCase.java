@@ -0,0 +1,70 @@
+package com.santanna.serviceorder.application.usecase;
+
+import com.santanna.serviceorder.application.dto.OrderResponseDto;
+import com.santanna.serviceorder.application.usecase.exception.NotFoundException;
+import com.santanna.serviceorder.application.utils.CursorCodec;
+import com.santanna.serviceorder.application.utils.LoggerUtils;
+import com.santanna.serviceorder.domain.common.CursorPage;
+import com.santanna.serviceorder.domain.exception.DomainException;
+import com.santanna.serviceorder.domain.model.OrderConverter;
+import com.santanna.serviceorder.domain.repository.ReactiveOrderRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.stream.Collectors;
+
+// Versão não bloqueante das leituras do GetOrderUseCase. Usa o mesmo cache "orders": com retorno Mono,
+// o cache é lido e preenchido pelo cliente assíncrono do Redis.
+@Service
+@ConditionalOnProperty(name = "order.read.reactive.enabled", havingValue = "true")
+public class ReactiveGetOrderUseCase {
+
+    private final LoggerUtils loggerUtils;
+    private final ReactiveOrderRepository reactiveOrderRepository;
+
+    public ReactiveGetOrderUseCase(LoggerUtils loggerUtils, ReactiveOrderRepository reactiveOrderRepository) {
+        this.loggerUtils = loggerUtils;
+        this.reactiveOrderRepository = reactiveOrderRepository;
+    }
+
+    @Cacheable(value = "orders", key = "#id", sync = true)
+    public Mono<OrderResponseDto> getById(Long id) {
+        loggerUtils.logDebug(ReactiveGetOrderUseCase.class, "Fetching order by ID: {}", id);
+
+        return reactiveOrderRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new NotFoundException("Order not found")))
+                .map(OrderConverter::toDto);
+    }
+
+    public Mono<CursorPage<OrderResponseDto>> getOrdersAfter(String after, int size) {
+        loggerUtils.logInfo(ReactiveGetOrderUseCase.class, "Fetching orders by cursor");
+        if (size <= 0) {
+            return Mono.error(new DomainException("Page size must be greater than zero."));
+        }
+
+        long afterId;
+        try {
+            afterId = CursorCodec.decode(after);
+        } catch (RuntimeException e) {
+            return Mono.error(e);
+        }
+
+        return reactiveOrderRepository.findAfter(afterId, size + 1)
+                .collectList()
+                .map(orders -> {
+                    boolean hasNext = orders.size() > size;
+                    var page = hasNext ? orders.subList(0, size) : orders;
+
+                    String nextCursor = hasNext ? CursorCodec.encode(page.get(page.size() - 1).getId()) : null;
+                    return new CursorPage<>(
+                            page.stream()
+                                    .map(OrderConverter::toDto)
+                                    .collect(Collectors.toList()),
+                            size,
+                            nextCursor
+                    );
+                });
+    }
+}
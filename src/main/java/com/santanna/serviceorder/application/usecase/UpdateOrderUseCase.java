@@ -6,11 +6,13 @@ import com.santanna.serviceorder.application.utils.LoggerUtils;
 import com.santanna.serviceorder.domain.model.OrderConverter;
 import com.santanna.serviceorder.domain.model.OrderStatus;
 import com.santanna.serviceorder.domain.repository.OrderRepository;
+import io.micrometer.core.annotation.Timed;
 import jakarta.transaction.Transactional;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
 import org.springframework.stereotype.Service;
 
 @Service
+@Timed(value = "order.usecase", histogram = true)
 public class UpdateOrderUseCase {
 
     private final LoggerUtils loggerUtils;
@@ -21,18 +23,17 @@ public class UpdateOrderUseCase {
         this.orderRepository = orderRepository;
     }
 
+    // Atualiza apenas a entrada do pedido alterado; o cache manager é transaction-aware,
+    // então a escrita só chega ao cache depois do commit.
     @Transactional
-    @CacheEvict(value = "orders", key = "#id", allEntries = true)
+    @CachePut(value = "orders", key = "#id")
     public OrderResponseDto execute(Long id, OrderStatus newStatus) {
-        loggerUtils.logInfo(UpdateOrderUseCase.class, "Updating order status. ID: {}, New Status: {}", id, newStatus);
+        loggerUtils.logDebug(UpdateOrderUseCase.class, "Updating order status. ID: {}, New Status: {}", id, newStatus);
 
         var order = orderRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Order not found"));
-        loggerUtils.logWarn(UpdateOrderUseCase.class, "Order with ID {} not found", id);
 
-
-        order.updateStatus(newStatus);
-        var updatedOrder = orderRepository.save(order);
+        var updatedOrder = orderRepository.save(order.withStatus(newStatus));
 
         loggerUtils.logInfo(UpdateOrderUseCase.class, "Order status updated successfully. ID: {}, New Status: {}", id, newStatus);
         return OrderConverter.toDto(updatedOrder);
@@ -0,0 +1,65 @@
+package com.santanna.serviceorder.application.utils;
+
+import com.santanna.serviceorder.application.usecase.exception.BusinessException;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+// Cursor opaco para paginação por chave: o último ID da página (ou a posição createdAt + ID, na listagem
+// por status) codificado em Base64 URL-safe.
+public final class CursorCodec {
+
+    // Posição da listagem por status; a primeira página começa acima de qualquer pedido
+    public record Position(long createdAt, long id) {
+        public static final Position FIRST = new Position(Long.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private CursorCodec() {
+    }
+
+    public static String encode(long id) {
+        return ENCODER.encodeToString(ByteBuffer.allocate(Long.BYTES).putLong(id).array());
+    }
+
+    // Cursor vazio indica a primeira página.
+    public static long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            byte[] bytes = DECODER.decode(cursor);
+            if (bytes.length != Long.BYTES) {
+                throw new BusinessException("Invalid cursor.");
+            }
+            return ByteBuffer.wrap(bytes).getLong();
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Invalid cursor.");
+        }
+    }
+
+    public static String encode(Position position) {
+        return ENCODER.encodeToString(ByteBuffer.allocate(2 * Long.BYTES)
+                .putLong(position.createdAt())
+                .putLong(position.id())
+                .array());
+    }
+
+    public static Position decodePosition(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return Position.FIRST;
+        }
+        try {
+            byte[] bytes = DECODER.decode(cursor);
+            if (bytes.length != 2 * Long.BYTES) {
+                throw new BusinessException("Invalid cursor.");
+            }
+            var buffer = ByteBuffer.wrap(bytes);
+            return new Position(buffer.getLong(), buffer.getLong());
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Invalid cursor.");
+        }
+    }
+}
@@ -2,31 +2,184 @@ package com.santanna.serviceorder.application.utils;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Os loggers ficam em cache por classe e cada nível é verificado antes de qualquer trabalho.
+// As sobrecargas com zero, um e dois argumentos evitam o array de varargs nas chamadas comuns.
 @Component
 public class LoggerUtils {
+    private static final ClassValue<Logger> LOGGERS = new ClassValue<>() {
+        @Override
+        protected Logger computeValue(Class<?> type) {
+            return LoggerFactory.getLogger(type);
+        }
+    };
+
+    private final int sampledPerSecond;
+    private final ConcurrentMap<String, Sampler> samplers = new ConcurrentHashMap<>();
+
+    public LoggerUtils(@Value("${order.logging.sampled-per-second:10}") int sampledPerSecond) {
+        this.sampledPerSecond = sampledPerSecond;
+    }
+
     public Logger getLogger(Class<?> clazz) {
-        return LoggerFactory.getLogger(clazz);
+        return LOGGERS.get(clazz);
+    }
+
+    public void logInfo(Class<?> clazz, String message) {
+        Logger logger = getLogger(clazz);
+        if (logger.isInfoEnabled()) {
+            logger.info(message);
+        }
+    }
+
+    public void logInfo(Class<?> clazz, String message, Object arg) {
+        Logger logger = getLogger(clazz);
+        if (logger.isInfoEnabled()) {
+            logger.info(message, arg);
+        }
+    }
+
+    public void logInfo(Class<?> clazz, String message, Object arg1, Object arg2) {
+        Logger logger = getLogger(clazz);
+        if (logger.isInfoEnabled()) {
+            logger.info(message, arg1, arg2);
+        }
     }
 
     public void logInfo(Class<?> clazz, String message, Object... args) {
         Logger logger = getLogger(clazz);
-        logger.info(message, args);
+        if (logger.isInfoEnabled()) {
+            logger.info(message, args);
+        }
+    }
+
+    // Logs de sucesso do caminho quente: no máximo sampledPerSecond linhas por segundo para cada mensagem.
+    // A primeira linha depois de um corte informa quantas foram descartadas.
+    public void logInfoSampled(Class<?> clazz, String message, Object arg) {
+        Logger logger = getLogger(clazz);
+        if (!logger.isInfoEnabled()) {
+            return;
+        }
+
+        Sampler sampler = samplers.get(message);
+        if (sampler == null) {
+            sampler = samplers.computeIfAbsent(message, key -> new Sampler());
+        }
+        long suppressed = sampler.tryAcquire(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime()), sampledPerSecond);
+        if (suppressed < 0) {
+            return;
+        }
+        if (suppressed > 0) {
+            logger.info("{} similar messages suppressed: {}", suppressed, message);
+        }
+        logger.info(message, arg);
     }
 
+    public void logError(Class<?> clazz, String message, Throwable ex) {
+        Logger logger = getLogger(clazz);
+        if (logger.isErrorEnabled()) {
+            logger.error(message, ex);
+        }
+    }
+
+    public void logError(Class<?> clazz, String message, Throwable ex, Object arg) {
+        Logger logger = getLogger(clazz);
+        if (logger.isErrorEnabled()) {
+            logger.error(message, arg, ex);
+        }
+    }
+
+    // O SLF4J só trata a exceção como tal quando ela é o último argumento
     public void logError(Class<?> clazz, String message, Throwable ex, Object... args) {
         Logger logger = getLogger(clazz);
-        logger.error(message, args, ex);
+        if (logger.isErrorEnabled()) {
+            Object[] argsWithException = new Object[args.length + 1];
+            System.arraycopy(args, 0, argsWithException, 0, args.length);
+            argsWithException[args.length] = ex;
+            logger.error(message, argsWithException);
+        }
+    }
+
+    public void logWarn(Class<?> clazz, String message) {
+        Logger logger = getLogger(clazz);
+        if (logger.isWarnEnabled()) {
+            logger.warn(message);
+        }
+    }
+
+    public void logWarn(Class<?> clazz, String message, Object arg) {
+        Logger logger = getLogger(clazz);
+        if (logger.isWarnEnabled()) {
+            logger.warn(message, arg);
+        }
+    }
+
+    public void logWarn(Class<?> clazz, String message, Object arg1, Object arg2) {
+        Logger logger = getLogger(clazz);
+        if (logger.isWarnEnabled()) {
+            logger.warn(message, arg1, arg2);
+        }
     }
 
     public void logWarn(Class<?> clazz, String message, Object... args) {
         Logger logger = getLogger(clazz);
-        logger.warn(message, args);
+        if (logger.isWarnEnabled()) {
+            logger.warn(message, args);
+        }
+    }
+
+    public void logDebug(Class<?> clazz, String message) {
+        Logger logger = getLogger(clazz);
+        if (logger.isDebugEnabled()) {
+            logger.debug(message);
+        }
+    }
+
+    public void logDebug(Class<?> clazz, String message, Object arg) {
+        Logger logger = getLogger(clazz);
+        if (logger.isDebugEnabled()) {
+            logger.debug(message, arg);
+        }
+    }
+
+    public void logDebug(Class<?> clazz, String message, Object arg1, Object arg2) {
+        Logger logger = getLogger(clazz);
+        if (logger.isDebugEnabled()) {
+            logger.debug(message, arg1, arg2);
+        }
     }
 
     public void logDebug(Class<?> clazz, String message, Object... args) {
         Logger logger = getLogger(clazz);
-        logger.debug(message, args);
+        if (logger.isDebugEnabled()) {
+            logger.debug(message, args);
+        }
+    }
+
+    // Janela de um segundo por mensagem; devolve -1 quando a linha deve ser descartada
+    static final class Sampler {
+        private final AtomicLong window = new AtomicLong(Long.MIN_VALUE);
+        private final AtomicInteger emitted = new AtomicInteger();
+        private final AtomicLong suppressed = new AtomicLong();
+
+        long tryAcquire(long second, int limit) {
+            long current = window.get();
+            if (current != second && window.compareAndSet(current, second)) {
+                emitted.set(0);
+            }
+            if (emitted.incrementAndGet() <= limit) {
+                return suppressed.getAndSet(0);
+            }
+            suppressed.incrementAndGet();
+            return -1;
+        }
     }
 }
@@ -0,0 +1,82 @@
+package com.santanna.serviceorder.application.utils;
+
+import com.santanna.serviceorder.application.dto.OrderBatchStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.Map;
+
+// Contadores de resultado da criação de pedidos e da ingestão pela fila. As latências dos casos de uso,
+// do repositório e do consumidor vêm das anotações @Timed; hit/miss de cache vêm do TwoLevelCacheManager.
+@Component
+public class OrderMetrics {
+    public static final String SINGLE = "single";
+    public static final String BATCH = "batch";
+
+    private final Map<OrderBatchStatus, Counter> singleCreates;
+    private final Map<OrderBatchStatus, Counter> batchCreates;
+    private final Map<OrderBatchStatus, Counter> singleMessages;
+    private final Map<OrderBatchStatus, Counter> batchMessages;
+    private final Timer messageToCommit;
+
+    public OrderMetrics(MeterRegistry meterRegistry) {
+        this.singleCreates = counters(meterRegistry, "order.create", SINGLE);
+        this.batchCreates = counters(meterRegistry, "order.create", BATCH);
+        this.singleMessages = counters(meterRegistry, "order.messages", SINGLE);
+        this.batchMessages = counters(meterRegistry, "order.messages", BATCH);
+        this.messageToCommit = Timer.builder("order.message.commit.latency")
+                .description("Time from message publication to the commit of the order it created")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static Map<OrderBatchStatus, Counter> counters(MeterRegistry meterRegistry, String name, String mode) {
+        Map<OrderBatchStatus, Counter> counters = new EnumMap<>(OrderBatchStatus.class);
+        for (OrderBatchStatus outcome : OrderBatchStatus.values()) {
+            counters.put(outcome, Counter.builder(name)
+                    .tag("mode", mode)
+                    .tag("outcome", outcome.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        return counters;
+    }
+
+    // Pedidos que chegaram aos casos de uso de criação (HTTP, fila e upload em lote)
+    public void recordCreate(String mode, OrderBatchStatus outcome) {
+        (BATCH.equals(mode) ? batchCreates : singleCreates).get(outcome).increment();
+    }
+
+    // Conta só se a transação confirmar: um lote desfeito e refeito registro a registro não é contado duas vezes
+    public void recordCreateOnCommit(String mode, OrderBatchStatus outcome) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()
+                && TransactionSynchronizationManager.isActualTransactionActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recordCreate(mode, outcome);
+                }
+            });
+        } else {
+            recordCreate(mode, outcome);
+        }
+    }
+
+    // Mensagens consumidas da fila; a taxa de "created" é a taxa de ingestão
+    public void recordMessage(String mode, OrderBatchStatus outcome) {
+        (BATCH.equals(mode) ? batchMessages : singleMessages).get(outcome).increment();
+    }
+
+    // Depende do timestamp AMQP definido pelo publicador; mensagens sem ele não entram na medição
+    public void recordMessageToCommit(Date publishedAt) {
+        if (publishedAt != null) {
+            messageToCommit.record(Duration.ofMillis(Math.max(0, System.currentTimeMillis() - publishedAt.getTime())));
+        }
+    }
+}
@@ -4,19 +4,24 @@ import com.santanna.serviceorder.domain.model.Order;
 import com.santanna.serviceorder.domain.model.OrderStatus;
 
 import java.math.BigDecimal;
-import java.time.LocalDateTime;
+import java.util.Currency;
 
 public abstract class OrderBuilder {
 
-    // instancia que será criada com builder
-    protected Order orderBuilder;
-
-    public OrderBuilder() {
-        orderBuilder = new Order();
-    }
-
+    // o Order é imutável: os valores ficam no builder e a instância só é criada em getOrderBuilder()
+    protected long id = Order.NO_ID;
+    protected String orderNumber;
+    protected String productName;
+    protected int quantity;
+    protected long unitPrice;
+    protected Currency currency = Order.DEFAULT_CURRENCY;
+    protected OrderStatus orderStatus;
+    protected long createdAt;
+
+    // o total é calculado aqui, a partir do preço unitário e da quantidade
     public Order getOrderBuilder(){
-        return orderBuilder;
+        return new Order(id, orderNumber, productName, quantity, Order.calculateTotalValue(unitPrice, quantity),
+                currency, orderStatus, createdAt);
     }
 
     // será usado na criação do objeto
@@ -25,9 +30,9 @@ public abstract class OrderBuilder {
     public abstract void buildOrderNumber(String orderNumber);
     public abstract void buildProductName(String productName);
     public abstract void buildQuantity(Integer quantity);
-    public abstract void buildTotalValue(BigDecimal totalValue);
+    public abstract void buildUnitPrice(BigDecimal unitPrice, Currency currency);
     public abstract void buildOrderStatus(OrderStatus status);
-    public abstract void buildCreatedAt(LocalDateTime createdAt);
+    public abstract void buildCreatedAt(long createdAt);
 
 
 
@@ -4,7 +4,7 @@ import com.santanna.serviceorder.domain.model.Order;
 import com.santanna.serviceorder.domain.model.OrderStatus;
 
 import java.math.BigDecimal;
-import java.time.LocalDateTime;
+import java.util.Currency;
 
 public class OrderDirector {
 
@@ -14,13 +14,13 @@ public class OrderDirector {
         this.builder = builder;
     }
 
-    public void getBuilder(Long id, String orderNumber, String productName, Integer quantity, BigDecimal totalValue,
-                           OrderStatus status, LocalDateTime createdAt) {
+    public void getBuilder(Long id, String orderNumber, String productName, Integer quantity, BigDecimal unitPrice,
+                           Currency currency, OrderStatus status, long createdAt) {
         builder.buildId(id);
         builder.buildOrderNumber(orderNumber);
         builder.buildProductName(productName);
         builder.buildQuantity(quantity);
-        builder.buildTotalValue(totalValue);
+        builder.buildUnitPrice(unitPrice, currency);
         builder.buildOrderStatus(status);
         builder.buildCreatedAt(createdAt);
 
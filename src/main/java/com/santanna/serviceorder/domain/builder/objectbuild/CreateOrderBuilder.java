@@ -1,10 +1,11 @@
 package com.santanna.serviceorder.domain.builder.objectbuild;
 
 import com.santanna.serviceorder.domain.builder.OrderBuilder;
+import com.santanna.serviceorder.domain.model.Money;
 import com.santanna.serviceorder.domain.model.OrderStatus;
 
 import java.math.BigDecimal;
-import java.time.LocalDateTime;
+import java.util.Currency;
 
 public class CreateOrderBuilder extends OrderBuilder {
 
@@ -14,32 +15,33 @@ public class CreateOrderBuilder extends OrderBuilder {
 
     @Override
     public void buildOrderNumber(String orderNumber) {
-        orderBuilder.setOrderNumber(orderNumber);
+        this.orderNumber = orderNumber;
     }
 
     @Override
     public void buildProductName(String productName) {
-        orderBuilder.setProductName(productName);
+        this.productName = productName;
 
     }
 
     @Override
     public void buildQuantity(Integer quantity) {
-        orderBuilder.setQuantity(quantity);
+        this.quantity = quantity;
     }
 
     @Override
-    public void buildTotalValue(BigDecimal totalValue) {
-        orderBuilder.setTotalValue(totalValue);
+    public void buildUnitPrice(BigDecimal unitPrice, Currency currency) {
+        this.currency = currency;
+        this.unitPrice = Money.toMinorUnits(unitPrice, currency);
     }
 
     @Override
     public void buildOrderStatus(OrderStatus status) {
-        orderBuilder.setOrderStatus(status);
+        this.orderStatus = status;
     }
 
     @Override
-    public void buildCreatedAt(LocalDateTime createdAt) {
-        orderBuilder.setCreatedAt(createdAt);
+    public void buildCreatedAt(long createdAt) {
+        this.createdAt = createdAt;
     }
 }
@@ -0,0 +1,7 @@
+package com.santanna.serviceorder.domain.common;
+
+import java.time.LocalDateTime;
+
+// Total aproximado de registros e o instante da última contagem exata que o originou.
+public record ApproximateCount(long total, LocalDateTime countedAt) {
+}
@@ -0,0 +1,39 @@
+package com.santanna.serviceorder.domain.common;
+
+import com.santanna.serviceorder.domain.exception.DomainException;
+
+import java.util.List;
+
+public class CursorPage<T> {
+    private List<T> content;
+    private int pageSize;
+    private String nextCursor;
+    private boolean hasNext;
+
+    public CursorPage(List<T> content, int pageSize, String nextCursor) {
+        if (pageSize <= 0) {
+            throw new DomainException("Page size must be greater than zero.");
+        }
+
+        this.content = content;
+        this.pageSize = pageSize;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+}
@@ -2,6 +2,7 @@ package com.santanna.serviceorder.domain.common;
 
 import com.santanna.serviceorder.domain.exception.DomainException;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public class PaginatedResult<T> {
@@ -10,8 +11,16 @@ public class PaginatedResult<T> {
     private int pageSize;
     private long totalElements;
     private int totalPages;
+    private boolean totalApproximate;
+    private LocalDateTime totalCountedAt;
 
     public PaginatedResult(List<T> content, int pageNumber, int pageSize, long totalElements) {
+        this(content, pageNumber, pageSize, totalElements, false, null);
+    }
+
+    // totalApproximate indica que totalElements veio de uma contagem em cache feita em totalCountedAt
+    public PaginatedResult(List<T> content, int pageNumber, int pageSize, long totalElements,
+                           boolean totalApproximate, LocalDateTime totalCountedAt) {
         if (pageNumber < 0) {
             throw new DomainException("The page number cannot be negative.");
         }
@@ -24,6 +33,8 @@ public class PaginatedResult<T> {
         this.pageSize = pageSize;
         this.totalElements = totalElements;
         this.totalPages = (int) Math.ceil((double) totalElements / pageSize);
+        this.totalApproximate = totalApproximate;
+        this.totalCountedAt = totalCountedAt;
     }
 
     public List<T> getContent() {
@@ -42,4 +53,12 @@ public class PaginatedResult<T> {
         return totalElements;
     }
 
+    public boolean isTotalApproximate() {
+        return totalApproximate;
+    }
+
+    public LocalDateTime getTotalCountedAt() {
+        return totalCountedAt;
+    }
+
 }
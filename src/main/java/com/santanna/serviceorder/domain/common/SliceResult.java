@@ -0,0 +1,42 @@
+package com.santanna.serviceorder.domain.common;
+
+import com.santanna.serviceorder.domain.exception.DomainException;
+
+import java.util.List;
+
+public class SliceResult<T> {
+    private List<T> content;
+    private int pageNumber;
+    private int pageSize;
+    private boolean hasNext;
+
+    public SliceResult(List<T> content, int pageNumber, int pageSize, boolean hasNext) {
+        if (pageNumber < 0) {
+            throw new DomainException("The page number cannot be negative.");
+        }
+        if (pageSize <= 0) {
+            throw new DomainException("Page size must be greater than zero.");
+        }
+
+        this.content = content;
+        this.pageNumber = pageNumber;
+        this.pageSize = pageSize;
+        this.hasNext = hasNext;
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public int getPageNumber() {
+        return pageNumber;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+}
@@ -0,0 +1,43 @@
+package com.santanna.serviceorder.domain.model;
+
+import com.santanna.serviceorder.domain.exception.DomainException;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+
+// Conversão entre valores decimais da API e unidades mínimas da moeda. Um valor com mais casas decimais
+// do que a moeda admite é rejeitado em vez de arredondado, então a ida e a volta nunca perdem precisão.
+public final class Money {
+
+    private Money() {
+    }
+
+    // Código ISO 4217; sem código, a moeda padrão do serviço
+    public static Currency currency(String currencyCode) {
+        if (currencyCode == null) {
+            return Order.DEFAULT_CURRENCY;
+        }
+        try {
+            return Currency.getInstance(currencyCode);
+        } catch (IllegalArgumentException e) {
+            throw new DomainException("Unsupported currency: " + currencyCode);
+        }
+    }
+
+    public static long toMinorUnits(BigDecimal amount, Currency currency) {
+        try {
+            return amount.movePointRight(fractionDigits(currency)).longValueExact();
+        } catch (ArithmeticException e) {
+            throw new DomainException("Amount " + amount.toPlainString() + " cannot be represented in "
+                    + currency.getCurrencyCode() + ".");
+        }
+    }
+
+    public static BigDecimal toDecimal(long minorUnits, Currency currency) {
+        return BigDecimal.valueOf(minorUnits, fractionDigits(currency));
+    }
+
+    private static int fractionDigits(Currency currency) {
+        return Math.max(0, currency.getDefaultFractionDigits());
+    }
+}
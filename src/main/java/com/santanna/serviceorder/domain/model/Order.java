@@ -2,92 +2,101 @@ package com.santanna.serviceorder.domain.model;
 
 import com.santanna.serviceorder.domain.exception.DomainException;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
-
-public class Order {
-    private Long id;
-    private String orderNumber;
-    private String productName;
-    private Integer quantity;
-    private BigDecimal totalValue;
-    private OrderStatus orderStatus;
-    private LocalDateTime createdAt;
-
-    public Order() {}
-
-    public Order(Long id, String orderNumber, String productName, Integer quantity, BigDecimal totalValue, OrderStatus orderStatus, LocalDateTime createdAt) {
+import java.time.ZoneOffset;
+import java.util.Currency;
+
+// Pedido imutável com campos primitivos: o valor total fica em unidades mínimas da moeda (centavos para BRL)
+// e a data de criação em milissegundos desde a época, em UTC. BigDecimal e LocalDateTime só aparecem na
+// fronteira JSON (OrderConverter); a entidade JPA usa a mesma representação compacta.
+public final class Order {
+    public static final Currency DEFAULT_CURRENCY = Currency.getInstance("BRL");
+
+    // Pedido ainda não gravado; o id é atribuído pelo OrderIdGenerator no insert
+    public static final long NO_ID = 0L;
+
+    private final long id;
+    private final String orderNumber;
+    private final String productName;
+    private final int quantity;
+    private final long totalValue;
+    private final Currency currency;
+    private final OrderStatus orderStatus;
+    private final long createdAt;
+
+    public Order(long id, String orderNumber, String productName, int quantity, long totalValue, Currency currency,
+                 OrderStatus orderStatus, long createdAt) {
         this.id = id;
         this.orderNumber = orderNumber;
         this.productName = productName;
         this.quantity = quantity;
         this.totalValue = totalValue;
+        this.currency = currency;
         this.orderStatus = orderStatus;
         this.createdAt = createdAt;
     }
 
-    public Long getId() {
+    public long getId() {
         return id;
     }
 
-    public void setId(Long id) {
-        this.id = id;
+    public boolean hasId() {
+        return id != NO_ID;
     }
 
     public String getOrderNumber() {
         return orderNumber;
     }
 
-    public void setOrderNumber(String orderNumber) {
-        this.orderNumber = orderNumber;
-    }
-
     public String getProductName() {
         return productName;
     }
 
-    public void setProductName(String productName) {
-        this.productName = productName;
-    }
-
-    public Integer getQuantity() {
+    public int getQuantity() {
         return quantity;
     }
 
-    public void setQuantity(Integer quantity) {
-        this.quantity = quantity;
-    }
-
-    public BigDecimal getTotalValue() {
+    // Em unidades mínimas de getCurrency()
+    public long getTotalValue() {
         return totalValue;
     }
 
-    public void setTotalValue(BigDecimal totalValue) {
-        this.totalValue = totalValue;
+    public Currency getCurrency() {
+        return currency;
     }
 
     public OrderStatus getOrderStatus() {
         return orderStatus;
     }
 
-    public void setOrderStatus(OrderStatus orderStatus) {
-        this.orderStatus = orderStatus;
+    // Milissegundos desde a época (UTC)
+    public long getCreatedAt() {
+        return createdAt;
     }
 
-    public LocalDateTime getCreatedAt() {
-        return createdAt;
+    public Order withId(long newId) {
+        return new Order(newId, orderNumber, productName, quantity, totalValue, currency, orderStatus, createdAt);
     }
 
-    public void setCreatedAt(LocalDateTime createdAt) {
-        this.createdAt = createdAt;
+    public Order withStatus(OrderStatus newStatus) {
+        return new Order(id, orderNumber, productName, quantity, totalValue, currency, newStatus, createdAt);
     }
 
-    public void updateStatus(OrderStatus newStatus) {
-        this.orderStatus = newStatus;
+    // Preço unitário e total em unidades mínimas; o total que não cabe em um long é rejeitado, nunca truncado
+    public static long calculateTotalValue(long unitPrice, int quantity) {
+        try {
+            return Math.multiplyExact(unitPrice, quantity);
+        } catch (ArithmeticException e) {
+            throw new DomainException("Order total exceeds the supported range.");
+        }
     }
 
-    private BigDecimal calculateTotalValue(BigDecimal unitPrice, Integer quantity) {
-        return unitPrice.multiply(BigDecimal.valueOf(quantity));
+    public static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1000 + dateTime.getNano() / 1_000_000;
     }
 
+    public static LocalDateTime toLocalDateTime(long epochMilli) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochMilli, 1000),
+                Math.floorMod(epochMilli, 1000) * 1_000_000, ZoneOffset.UTC);
+    }
 }
@@ -2,17 +2,35 @@ package com.santanna.serviceorder.domain.model;
 
 import com.santanna.serviceorder.application.dto.OrderResponseDto;
 
+import java.util.Currency;
+
 public class OrderConverter {
 
     public static OrderResponseDto toDto(Order order) {
-        return new OrderResponseDto(
+        return toDto(
                 order.getId(),
                 order.getOrderNumber(),
                 order.getProductName(),
                 order.getQuantity(),
                 order.getTotalValue(),
+                order.getCurrency(),
                 order.getOrderStatus(),
                 order.getCreatedAt()
         );
     }
+
+    // Usado também pelas projeções da listagem, que chegam aqui sem passar por um Order
+    public static OrderResponseDto toDto(long id, String orderNumber, String productName, int quantity,
+                                         long totalValue, Currency currency, OrderStatus status, long createdAt) {
+        return new OrderResponseDto(
+                id,
+                orderNumber,
+                productName,
+                quantity,
+                Money.toDecimal(totalValue, currency),
+                currency.getCurrencyCode(),
+                status,
+                Order.toLocalDateTime(createdAt)
+        );
+    }
 }
@@ -1,19 +1,47 @@
 package com.santanna.serviceorder.domain.repository;
 
+import com.santanna.serviceorder.application.dto.OrderResponseDto;
+import com.santanna.serviceorder.domain.common.ApproximateCount;
 import com.santanna.serviceorder.domain.common.PaginatedResult;
+import com.santanna.serviceorder.domain.common.SliceResult;
 import com.santanna.serviceorder.domain.model.Order;
+import com.santanna.serviceorder.domain.model.OrderStatus;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface OrderRepository {
 
     Optional<Order> findByOrderNumber(String orderNumber);
 
+    // Insere o pedido se o número ainda não existe; vazio quando já existe um pedido com o mesmo número
+    Optional<Order> createIfAbsent(Order order);
+
+    Set<String> findExistingOrderNumbers(Collection<String> orderNumbers);
+
     Optional<Order> findById(Long id);
 
-    PaginatedResult<Order> findAll(int page, int size);
+    // Listagens somente-leitura projetadas direto no DTO de resposta, sem entidades gerenciadas nem Order
+    PaginatedResult<OrderResponseDto> findAllView(int page, int size);
+
+    SliceResult<OrderResponseDto> findSliceView(int page, int size);
+
+    ApproximateCount approximateCount();
+
+    List<OrderResponseDto> findAfterView(long afterId, int limit);
+
+    // Pedidos em um dos status, do mais recente para o mais antigo, estritamente anteriores a (createdAt, id)
+    List<Order> findByStatusBefore(Set<OrderStatus> statuses, long createdAt, long id, int limit);
+
+    long streamAll(OrderStatus status, LocalDateTime createdFrom, LocalDateTime createdTo, Consumer<Order> consumer);
 
     Order save(Order order);
 
+    List<Order> saveAll(List<Order> orders);
+
     void deleteById(Long id);
 }
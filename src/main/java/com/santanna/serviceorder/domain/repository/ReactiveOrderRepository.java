@@ -0,0 +1,13 @@
+package com.santanna.serviceorder.domain.repository;
+
+import com.santanna.serviceorder.domain.model.Order;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Leituras não bloqueantes de pedidos, usadas pelo caminho reativo (order.read.reactive.enabled)
+public interface ReactiveOrderRepository {
+
+    Mono<Order> findById(Long id);
+
+    Flux<Order> findAfter(long afterId, int limit);
+}
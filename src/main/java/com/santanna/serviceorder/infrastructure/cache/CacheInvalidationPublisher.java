@@ -0,0 +1,34 @@
+package com.santanna.serviceorder.infrastructure.cache;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.UUID;
+
+// Publica no canal do Redis as invalidações feitas por este nó para que as outras réplicas limpem o seu L1.
+// Formato da mensagem: operação|nó de origem|cache|chave
+public class CacheInvalidationPublisher {
+
+    public static final String CHANNEL = "service-order:cache-invalidation";
+
+    static final String EVICT = "E";
+    static final String CLEAR = "C";
+
+    private final StringRedisTemplate redisTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public CacheInvalidationPublisher(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void publishEvict(String cacheName, Object key) {
+        redisTemplate.convertAndSend(CHANNEL, String.join("|", EVICT, nodeId, cacheName, String.valueOf(key)));
+    }
+
+    public void publishClear(String cacheName) {
+        redisTemplate.convertAndSend(CHANNEL, String.join("|", CLEAR, nodeId, cacheName, ""));
+    }
+}
@@ -0,0 +1,202 @@
+package com.santanna.serviceorder.infrastructure.cache;
+
+import com.santanna.serviceorder.application.dto.OrderResponseDto;
+import com.santanna.serviceorder.domain.model.OrderStatus;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+// Serializador binário dos pedidos em cache. Cada valor começa com dois bytes de cabeçalho: a versão do formato
+// e as flags. Um nó que encontra uma versão desconhecida trata a entrada como miss, o que permite subir uma
+// versão nova do formato com réplicas antigas ainda rodando. Valores que não são OrderResponseDto são gravados
+// em JSON atrás do mesmo cabeçalho (FLAG_JSON). Entradas antigas, gravadas em JSON puro antes deste formato, não
+// são lidas: o primeiro byte não bate com a versão, a leitura vira miss e o valor é recarregado e regravado.
+public class OrderCacheSerializer implements RedisSerializer<Object> {
+
+    // 2: inclui a moeda do valor total
+    static final byte FORMAT_VERSION = 2;
+    static final byte FLAG_COMPRESSED = 0x01;
+    static final byte FLAG_JSON = 0x02;
+
+    private static final int HEADER_SIZE = 2;
+
+    // Bits de presença dos campos que podem ser nulos
+    private static final int HAS_ID = 1;
+    private static final int HAS_ORDER_NUMBER = 1 << 1;
+    private static final int HAS_PRODUCT_NAME = 1 << 2;
+    private static final int HAS_QUANTITY = 1 << 3;
+    private static final int HAS_TOTAL_VALUE = 1 << 4;
+    private static final int HAS_STATUS = 1 << 5;
+    private static final int HAS_CREATED_AT = 1 << 6;
+    private static final int HAS_CURRENCY = 1 << 7;
+
+    private final RedisSerializer<Object> fallback;
+    private final int compressionThreshold;
+
+    public OrderCacheSerializer(RedisSerializer<Object> fallback, int compressionThreshold) {
+        this.fallback = fallback;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        if (!(value instanceof OrderResponseDto order) || !fitsBinaryFormat(order)) {
+            return withHeader(FLAG_JSON, fallback.serialize(value));
+        }
+
+        try {
+            var buffer = new ByteArrayOutputStream(96);
+            buffer.write(FORMAT_VERSION);
+            buffer.write(0);
+            writeOrder(new DataOutputStream(buffer), order);
+
+            byte[] encoded = buffer.toByteArray();
+            return encoded.length - HEADER_SIZE > compressionThreshold ? compress(encoded) : encoded;
+        } catch (IOException e) {
+            throw new SerializationException("Could not serialize cached order", e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != FORMAT_VERSION || bytes.length < HEADER_SIZE) {
+            return null;
+        }
+
+        byte flags = bytes[1];
+        if ((flags & FLAG_JSON) != 0) {
+            byte[] json = new byte[bytes.length - HEADER_SIZE];
+            System.arraycopy(bytes, HEADER_SIZE, json, 0, json.length);
+            return fallback.deserialize(json);
+        }
+
+        InputStream in = new ByteArrayInputStream(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE);
+        if ((flags & FLAG_COMPRESSED) != 0) {
+            in = new InflaterInputStream(in);
+        }
+        try (var data = new DataInputStream(in)) {
+            return readOrder(data);
+        } catch (IOException e) {
+            throw new SerializationException("Could not deserialize cached order", e);
+        }
+    }
+
+    private void writeOrder(DataOutputStream out, OrderResponseDto order) throws IOException {
+        int present = (order.id() != null ? HAS_ID : 0)
+                | (order.orderNumber() != null ? HAS_ORDER_NUMBER : 0)
+                | (order.productName() != null ? HAS_PRODUCT_NAME : 0)
+                | (order.quantity() != null ? HAS_QUANTITY : 0)
+                | (order.totalValue() != null ? HAS_TOTAL_VALUE : 0)
+                | (order.status() != null ? HAS_STATUS : 0)
+                | (order.createdAt() != null ? HAS_CREATED_AT : 0)
+                | (order.currency() != null ? HAS_CURRENCY : 0);
+        out.writeByte(present);
+
+        if (order.id() != null) {
+            out.writeLong(order.id());
+        }
+        if (order.orderNumber() != null) {
+            out.writeUTF(order.orderNumber());
+        }
+        if (order.productName() != null) {
+            out.writeUTF(order.productName());
+        }
+        if (order.quantity() != null) {
+            out.writeInt(order.quantity());
+        }
+        if (order.totalValue() != null) {
+            byte[] unscaled = order.totalValue().unscaledValue().toByteArray();
+            out.writeByte(order.totalValue().scale());
+            out.writeByte(unscaled.length);
+            out.write(unscaled);
+        }
+        if (order.status() != null) {
+            out.writeUTF(order.status().name());
+        }
+        if (order.createdAt() != null) {
+            out.writeLong(order.createdAt().toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(order.createdAt().getNano());
+        }
+        if (order.currency() != null) {
+            out.writeUTF(order.currency());
+        }
+    }
+
+    private OrderResponseDto readOrder(DataInputStream in) throws IOException {
+        int present = in.readUnsignedByte();
+
+        Long id = (present & HAS_ID) != 0 ? in.readLong() : null;
+        String orderNumber = (present & HAS_ORDER_NUMBER) != 0 ? in.readUTF() : null;
+        String productName = (present & HAS_PRODUCT_NAME) != 0 ? in.readUTF() : null;
+        Integer quantity = (present & HAS_QUANTITY) != 0 ? in.readInt() : null;
+
+        BigDecimal totalValue = null;
+        if ((present & HAS_TOTAL_VALUE) != 0) {
+            int scale = in.readByte();
+            byte[] unscaled = new byte[in.readUnsignedByte()];
+            in.readFully(unscaled);
+            totalValue = new BigDecimal(new BigInteger(unscaled), scale);
+        }
+
+        OrderStatus status = (present & HAS_STATUS) != 0 ? OrderStatus.valueOf(in.readUTF()) : null;
+
+        LocalDateTime createdAt = null;
+        if ((present & HAS_CREATED_AT) != 0) {
+            createdAt = LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+        }
+
+        String currency = (present & HAS_CURRENCY) != 0 ? in.readUTF() : null;
+
+        return new OrderResponseDto(id, orderNumber, productName, quantity, totalValue, currency, status, createdAt);
+    }
+
+    // O valor total é gravado com escala e tamanho em um byte cada; valores fora disso vão em JSON.
+    private static boolean fitsBinaryFormat(OrderResponseDto order) {
+        BigDecimal totalValue = order.totalValue();
+        return totalValue == null
+                || (totalValue.scale() >= Byte.MIN_VALUE && totalValue.scale() <= Byte.MAX_VALUE
+                && totalValue.unscaledValue().bitLength() / 8 + 1 <= 0xFF);
+    }
+
+    private byte[] compress(byte[] encoded) throws IOException {
+        var buffer = new ByteArrayOutputStream(encoded.length);
+        buffer.write(FORMAT_VERSION);
+        buffer.write(FLAG_COMPRESSED);
+        var deflater = new Deflater(Deflater.BEST_SPEED);
+        try (var out = new DeflaterOutputStream(buffer, deflater)) {
+            out.write(encoded, HEADER_SIZE, encoded.length - HEADER_SIZE);
+        } finally {
+            deflater.end();
+        }
+
+        byte[] compressed = buffer.toByteArray();
+        return compressed.length < encoded.length ? compressed : encoded;
+    }
+
+    private static byte[] withHeader(byte flags, byte[] payload) {
+        byte[] bytes = new byte[payload.length + HEADER_SIZE];
+        bytes[0] = FORMAT_VERSION;
+        bytes[1] = flags;
+        System.arraycopy(payload, 0, bytes, HEADER_SIZE, payload.length);
+        return bytes;
+    }
+}
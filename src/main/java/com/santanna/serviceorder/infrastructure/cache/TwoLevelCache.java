@@ -0,0 +1,293 @@
+package com.santanna.serviceorder.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+// L1 em memória (Caffeine) na frente do L2 compartilhado (Redis). Leituras consultam o L1 primeiro e preenchem
+// o L1 com o que vier do L2; escritas e remoções explícitas vão para os dois níveis e são avisadas às outras réplicas.
+// As chaves do L1 usam a forma textual, a mesma que o Redis usa, para casar com as invalidações recebidas.
+public class TwoLevelCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final Cache remote;
+    private final CacheInvalidationPublisher publisher;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Throwable> misses;
+    private final Predicate<Throwable> negativeCacheable;
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Counter coalescedLoads;
+    private final Counter negativeHits;
+    private final Counter sourceLoads;
+
+    public TwoLevelCache(String name, com.github.benmanes.caffeine.cache.Cache<String, Object> local, Cache remote,
+                         CacheInvalidationPublisher publisher) {
+        this(name, local, remote, publisher, Caffeine.newBuilder().maximumSize(0).build(), e -> false,
+                new SimpleMeterRegistry());
+    }
+
+    // misses guarda, por pouco tempo e só neste nó, as falhas de carga aceitas por negativeCacheable
+    // (ex.: pedido inexistente), para que ids inexistentes não cheguem ao banco a cada requisição.
+    public TwoLevelCache(String name, com.github.benmanes.caffeine.cache.Cache<String, Object> local, Cache remote,
+                         CacheInvalidationPublisher publisher,
+                         com.github.benmanes.caffeine.cache.Cache<String, Throwable> misses,
+                         Predicate<Throwable> negativeCacheable, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.publisher = publisher;
+        this.misses = misses;
+        this.negativeCacheable = negativeCacheable;
+        this.coalescedLoads = Counter.builder("cache.loads.coalesced")
+                .description("Cache misses that waited for a load already running on this node")
+                .tag("cache", name)
+                .register(meterRegistry);
+        this.negativeHits = Counter.builder("cache.negative.hits")
+                .description("Lookups answered from the negative cache")
+                .tag("cache", name)
+                .register(meterRegistry);
+        this.sourceLoads = Counter.builder("cache.loads")
+                .description("Lookups that missed both levels and ran the value loader")
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        Object stored = local.getIfPresent(localKey);
+        if (stored != null) {
+            return new SimpleValueWrapper(fromStore(stored));
+        }
+
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper != null) {
+            local.put(localKey, toStore(wrapper.get()));
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    // Apenas uma carga por chave roda neste nó; as demais requisições para a mesma chave esperam o resultado dela.
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+
+        String localKey = localKey(key);
+        Throwable miss = misses.getIfPresent(localKey);
+        if (miss != null) {
+            negativeHits.increment();
+            throw new ValueRetrievalException(key, valueLoader, miss);
+        }
+
+        var load = new CompletableFuture<Object>();
+        var running = inFlight.putIfAbsent(localKey, load);
+        if (running != null) {
+            coalescedLoads.increment();
+            return (T) await(running, key, valueLoader);
+        }
+
+        try {
+            wrapper = get(key);
+            if (wrapper != null) {
+                load.complete(wrapper.get());
+                return (T) wrapper.get();
+            }
+
+            T value;
+            sourceLoads.increment();
+            try {
+                value = valueLoader.call();
+            } catch (Exception e) {
+                if (negativeCacheable.test(e)) {
+                    misses.put(localKey, e);
+                }
+                load.completeExceptionally(e);
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+            load.complete(value);
+            fill(key, value);
+            return value;
+        } finally {
+            inFlight.remove(localKey, load);
+        }
+    }
+
+    // Variante assíncrona usada por métodos @Cacheable que retornam Mono: o L2 é lido e gravado pelo cliente
+    // assíncrono do Redis, sem bloquear a thread que atende a requisição.
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        Object stored = local.getIfPresent(localKey(key));
+        if (stored != null) {
+            return CompletableFuture.completedFuture(new SimpleValueWrapper(fromStore(stored)));
+        }
+
+        CompletableFuture<?> remoteValue = remote.retrieve(key);
+        if (remoteValue == null) {
+            return null;
+        }
+        return remoteValue.thenApply(wrapper -> {
+            if (wrapper instanceof ValueWrapper valueWrapper) {
+                local.put(localKey(key), toStore(valueWrapper.get()));
+            }
+            return wrapper;
+        });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        String localKey = localKey(key);
+        Object stored = local.getIfPresent(localKey);
+        if (stored != null) {
+            return CompletableFuture.completedFuture((T) fromStore(stored));
+        }
+
+        Throwable miss = misses.getIfPresent(localKey);
+        if (miss != null) {
+            negativeHits.increment();
+            return CompletableFuture.failedFuture(miss);
+        }
+
+        var load = new CompletableFuture<Object>();
+        var running = inFlight.putIfAbsent(localKey, load);
+        if (running != null) {
+            coalescedLoads.increment();
+            return (CompletableFuture<T>) running;
+        }
+
+        CompletableFuture<T> remoteLoad;
+        try {
+            remoteLoad = remote.retrieve(key, () -> {
+                sourceLoads.increment();
+                return valueLoader.get().whenComplete((value, error) -> {
+                    Throwable cause = unwrap(error);
+                    if (cause != null && negativeCacheable.test(cause)) {
+                        misses.put(localKey, cause);
+                    }
+                });
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(localKey, load);
+            load.completeExceptionally(e);
+            return (CompletableFuture<T>) load;
+        }
+
+        remoteLoad.whenComplete((value, error) -> {
+            inFlight.remove(localKey, load);
+            if (error != null) {
+                load.completeExceptionally(unwrap(error));
+            } else {
+                local.put(localKey, toStore(value));
+                load.complete(value);
+            }
+        });
+        return (CompletableFuture<T>) load;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        local.put(localKey(key), toStore(value));
+        misses.invalidate(localKey(key));
+        publisher.publishEvict(name, localKey(key));
+    }
+
+    // Preenchimento depois de uma carga: o valor veio da fonte e não mudou nada, então nenhuma réplica precisa
+    // descartar o que tem; só put, evict e clear explícitos publicam invalidação.
+    private void fill(Object key, Object value) {
+        remote.put(key, value);
+        local.put(localKey(key), toStore(value));
+        misses.invalidate(localKey(key));
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        local.invalidate(localKey(key));
+        misses.invalidate(localKey(key));
+        publisher.publishEvict(name, localKey(key));
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        misses.invalidateAll();
+        publisher.publishClear(name);
+    }
+
+    void evictLocal(String key) {
+        local.invalidate(key);
+        misses.invalidate(key);
+    }
+
+    void clearLocal() {
+        local.invalidateAll();
+        misses.invalidateAll();
+    }
+
+    private Object await(CompletableFuture<Object> running, Object key, Callable<?> valueLoader) {
+        try {
+            return running.get();
+        } catch (ExecutionException e) {
+            throw new ValueRetrievalException(key, valueLoader, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private String localKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    private Object toStore(Object value) {
+        return value != null ? value : NullValue.INSTANCE;
+    }
+
+    private Object fromStore(Object stored) {
+        return stored == NullValue.INSTANCE ? null : stored;
+    }
+}
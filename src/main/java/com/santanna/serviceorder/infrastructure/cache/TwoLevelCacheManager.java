@@ -0,0 +1,98 @@
+package com.santanna.serviceorder.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.boot.actuate.metrics.cache.RedisCacheMetrics;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.data.redis.cache.RedisCache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Predicate;
+
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager {
+
+    private final CacheManager remoteCacheManager;
+    private final CacheInvalidationPublisher publisher;
+    private final MeterRegistry meterRegistry;
+    private final long localMaximumSize;
+    private final Duration localTtl;
+    private final Duration negativeTtl;
+    private final Predicate<Throwable> negativeCacheable;
+
+    // O L2 normalmente é o RedisCacheManager; qualquer CacheManager serve (o harness de carga usa um em memória)
+    public TwoLevelCacheManager(CacheManager remoteCacheManager, CacheInvalidationPublisher publisher,
+                                MeterRegistry meterRegistry, long localMaximumSize, Duration localTtl,
+                                Duration negativeTtl, Predicate<Throwable> negativeCacheable) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.publisher = publisher;
+        this.meterRegistry = meterRegistry;
+        this.localMaximumSize = localMaximumSize;
+        this.localTtl = localTtl;
+        this.negativeTtl = negativeTtl;
+        this.negativeCacheable = negativeCacheable;
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return List.of();
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        var remote = remoteCacheManager.getCache(name);
+        if (remote == null) {
+            return null;
+        }
+
+        com.github.benmanes.caffeine.cache.Cache<String, Object> local = Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfterWrite(localTtl)
+                .recordStats()
+                .build();
+
+        com.github.benmanes.caffeine.cache.Cache<String, Throwable> misses = Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfterWrite(negativeTtl)
+                .build();
+
+        if (meterRegistry != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, local, name, Tags.of("tier", "l1"));
+            if (remote instanceof RedisCache redisCache) {
+                new RedisCacheMetrics(redisCache, Tags.of("tier", "l2")).bindTo(meterRegistry);
+            }
+        }
+
+        return new TwoLevelCache(name, local, remote, publisher, misses, negativeCacheable,
+                meterRegistry != null ? meterRegistry : new SimpleMeterRegistry());
+    }
+
+    // Invalidação recebida pelo canal do Redis; mensagens publicadas por este mesmo nó são ignoradas.
+    public void onInvalidation(String message) {
+        String[] parts = message.split("\\|", 4);
+        if (parts.length < 4 || publisher.getNodeId().equals(parts[1])) {
+            return;
+        }
+
+        Cache cache = lookupCache(parts[2]);
+        if (cache == null) {
+            return;
+        }
+        TwoLevelCache twoLevelCache = (TwoLevelCache) (cache instanceof TransactionAwareCacheDecorator decorator
+                ? decorator.getTargetCache()
+                : cache);
+
+        if (CacheInvalidationPublisher.CLEAR.equals(parts[0])) {
+            twoLevelCache.clearLocal();
+        } else {
+            twoLevelCache.evictLocal(parts[3]);
+        }
+    }
+}
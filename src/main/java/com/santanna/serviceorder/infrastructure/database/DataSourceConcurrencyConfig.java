@@ -0,0 +1,73 @@
+package com.santanna.serviceorder.infrastructure.database;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+// Ativo apenas com spring.threads.virtual.enabled=true: nesse modo o Tomcat, os listeners do RabbitMQ e os
+// executores assíncronos usam threads virtuais, e o acesso ao banco passa a ser limitado pelas permissões abaixo.
+// O limite fica em cada pool, não na rota: com réplicas (ReadReplicaConfig) cada pool ganha as próprias permissões.
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class DataSourceConcurrencyConfig {
+
+    @Bean
+    public static BeanPostProcessor concurrencyLimitedDataSourcePostProcessor(Environment environment,
+                                                                               ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConcurrencyLimitedDataSource
+                        || ReplicaRouter.isRouted(dataSource)) {
+                    return bean;
+                }
+
+                var limited = limit(dataSource, environment);
+                meterRegistry.ifAvailable(registry -> bindMetrics(limited, beanName, registry));
+                return limited;
+            }
+        };
+    }
+
+    // Uma permissão por conexão do pool Hikari por trás do DataSource; order.datasource.max-concurrency só reduz.
+    // Com mais permissões que conexões as threads voltariam a esperar dentro do Hikari, fora da fila justa.
+    static ConcurrencyLimitedDataSource limit(DataSource dataSource, Environment environment) {
+        var hikari = hikari(dataSource);
+        int poolSize = hikari != null ? hikari.getMaximumPoolSize()
+                : environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+        long acquireTimeoutMs = hikari != null ? hikari.getConnectionTimeout()
+                : environment.getProperty("spring.datasource.hikari.connection-timeout", Long.class, 30000L);
+        int maxConcurrency = Math.min(poolSize,
+                environment.getProperty("order.datasource.max-concurrency", Integer.class, poolSize));
+        return new ConcurrencyLimitedDataSource(dataSource, maxConcurrency, acquireTimeoutMs);
+    }
+
+    private static HikariDataSource hikari(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    static void bindMetrics(ConcurrencyLimitedDataSource dataSource, String name, MeterRegistry registry) {
+        Gauge.builder("order.datasource.permits.available", dataSource, ConcurrencyLimitedDataSource::getAvailablePermits)
+                .description("Database permits not held by any thread")
+                .tag("name", name)
+                .register(registry);
+        Gauge.builder("order.datasource.permits.waiting", dataSource, ConcurrencyLimitedDataSource::getWaitingThreads)
+                .description("Threads queued for a database permit")
+                .tag("name", name)
+                .register(registry);
+    }
+}
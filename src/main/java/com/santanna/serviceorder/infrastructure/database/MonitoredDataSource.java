@@ -0,0 +1,134 @@
+package com.santanna.serviceorder.infrastructure.database;
+
+import com.santanna.serviceorder.application.utils.LoggerUtils;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// Mede cada execução de instrução no nível do JDBC, substituindo o show-sql: só as que passam de
+// slowQueryThresholdMs são registradas, com o SQL e a quantidade de parâmetros (os valores não entram no log).
+// Cada execução também conta para o StatementCounter da requisição atual.
+public class MonitoredDataSource extends DelegatingDataSource {
+
+    private final long slowQueryThresholdNanos;
+    private final LoggerUtils loggerUtils;
+    private final LongAdder slowQueries = new LongAdder();
+    private final LongAdder statements = new LongAdder();
+
+    public MonitoredDataSource(DataSource targetDataSource, long slowQueryThresholdMs, LoggerUtils loggerUtils) {
+        super(targetDataSource);
+        this.slowQueryThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowQueryThresholdMs);
+        this.loggerUtils = loggerUtils;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return monitored(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return monitored(super.getConnection(username, password));
+    }
+
+    public long getSlowQueryCount() {
+        return slowQueries.sum();
+    }
+
+    public long getStatementCount() {
+        return statements.sum();
+    }
+
+    private Connection monitored(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(MonitoredDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    if (result instanceof Statement statement) {
+                        String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                        return monitored(statement, sql);
+                    }
+                    return result;
+                });
+    }
+
+    private Statement monitored(Statement statement, String sql) {
+        Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+                : statement instanceof PreparedStatement ? PreparedStatement.class
+                : Statement.class;
+        return (Statement) Proxy.newProxyInstance(MonitoredDataSource.class.getClassLoader(),
+                new Class<?>[]{type}, new MonitoredStatement(statement, sql));
+    }
+
+    private void slowQuery(String sql, long elapsedNanos, int binds, int batchRows) {
+        slowQueries.increment();
+        loggerUtils.logWarn(MonitoredDataSource.class, "Slow SQL: {} ms, {} binds, {} batch rows: {}",
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), binds, batchRows, sql);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    // Um Statement é usado por uma thread de cada vez, então os contadores não precisam ser atômicos
+    private final class MonitoredStatement implements InvocationHandler {
+        private final Statement target;
+        private final String sql;
+        private int binds;
+        private int batchRows;
+
+        private MonitoredStatement(Statement target, String sql) {
+            this.target = target;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                return execute(method, args);
+            }
+            if (name.equals("addBatch")) {
+                batchRows++;
+            } else if (name.equals("clearBatch")) {
+                binds = 0;
+                batchRows = 0;
+            } else if (name.startsWith("set") && args != null && args.length >= 2) {
+                // setString(1, ...), setObject("nome", ...): os setters de configuração têm um único argumento
+                binds++;
+            }
+            return MonitoredDataSource.invoke(target, method, args);
+        }
+
+        private Object execute(Method method, Object[] args) throws Throwable {
+            String executed = args != null && args.length > 0 && args[0] instanceof String s ? s : sql;
+            StatementCounter.increment();
+            statements.increment();
+            long start = System.nanoTime();
+            try {
+                return MonitoredDataSource.invoke(target, method, args);
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                if (elapsed >= slowQueryThresholdNanos) {
+                    slowQuery(executed, elapsed, binds, batchRows);
+                }
+                binds = 0;
+                batchRows = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.santanna.serviceorder.infrastructure.database;
+
+import java.util.function.Supplier;
+
+// Leituras que não podem enxergar o atraso de uma réplica: as que alimentam caches compartilhados (pedido por id,
+// filtro de números, contagem). Valem mesmo dentro das transações somente-leitura do Spring Data e não abrem a
+// janela de read-your-writes. Sem réplicas configuradas a marcação não tem efeito.
+public final class PrimaryReads {
+    private static final ThreadLocal<Boolean> REQUESTED = new ThreadLocal<>();
+
+    private PrimaryReads() {
+    }
+
+    public static <T> T call(Supplier<T> action) {
+        if (Boolean.TRUE.equals(REQUESTED.get())) {
+            return action.get();
+        }
+        REQUESTED.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            REQUESTED.remove();
+        }
+    }
+
+    static boolean isRequested() {
+        return Boolean.TRUE.equals(REQUESTED.get());
+    }
+}
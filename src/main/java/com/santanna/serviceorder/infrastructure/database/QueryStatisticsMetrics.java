@@ -0,0 +1,66 @@
+package com.santanna.serviceorder.infrastructure.database;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// Tempo máximo/médio, execuções e linhas de cada consulta HQL. Os totais (sessões, carregamentos, flushes,
+// cache de segundo nível) já vêm do HibernateMetrics registrado pelo Spring Boot. O HibernateQueryMetrics do
+// hibernate-micrometer percorre todas as consultas a cada entidade carregada; aqui as consultas novas
+// são registradas a cada intervalo e as métricas só leem o QueryStatistics no scrape.
+public class QueryStatisticsMetrics {
+
+    private final Statistics statistics;
+    private final MeterRegistry meterRegistry;
+    private final int maxTrackedQueries;
+    private final Set<String> tracked = ConcurrentHashMap.newKeySet();
+
+    public QueryStatisticsMetrics(Statistics statistics, MeterRegistry meterRegistry, int maxTrackedQueries) {
+        this.statistics = statistics;
+        this.meterRegistry = meterRegistry;
+        this.maxTrackedQueries = maxTrackedQueries;
+    }
+
+    @Scheduled(fixedDelayString = "${order.sql.query-metrics-refresh-ms:60000}")
+    public void registerNewQueries() {
+        if (!statistics.isStatisticsEnabled()) {
+            return;
+        }
+        for (String query : statistics.getQueries()) {
+            if (tracked.size() >= maxTrackedQueries) {
+                return;
+            }
+            if (tracked.add(query)) {
+                bind(query, statistics.getQueryStatistics(query));
+            }
+        }
+    }
+
+    private void bind(String query, QueryStatistics queryStatistics) {
+        Tags tags = Tags.of("query", query);
+        FunctionCounter.builder("order.sql.query.executions", queryStatistics, QueryStatistics::getExecutionCount)
+                .description("Executions of one HQL query")
+                .tags(tags)
+                .register(meterRegistry);
+        FunctionCounter.builder("order.sql.query.rows", queryStatistics, QueryStatistics::getExecutionRowCount)
+                .description("Rows returned by one HQL query")
+                .tags(tags)
+                .register(meterRegistry);
+        TimeGauge.builder("order.sql.query.time.max", queryStatistics, TimeUnit.MILLISECONDS, QueryStatistics::getExecutionMaxTime)
+                .description("Slowest execution of one HQL query")
+                .tags(tags)
+                .register(meterRegistry);
+        TimeGauge.builder("order.sql.query.time.avg", queryStatistics, TimeUnit.MILLISECONDS, QueryStatistics::getExecutionAvgTime)
+                .description("Average execution time of one HQL query")
+                .tags(tags)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,56 @@
+package com.santanna.serviceorder.infrastructure.database;
+
+import com.santanna.serviceorder.domain.repository.ReactiveOrderRepository;
+import com.santanna.serviceorder.infrastructure.repository.R2dbcOrderRepository;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.time.Duration;
+
+// Pool R2DBC próprio do caminho reativo de leitura. A autoconfiguração de R2DBC do Boot fica desligada
+// (ServiceOrderApplication) para não disputar com o JPA o gerenciador de transações padrão. O pool também não é
+// um bean: com um ConnectionFactory no contexto o DataSourceAutoConfiguration deixaria de criar o DataSource do JPA.
+@Configuration
+@ConditionalOnProperty(name = "order.read.reactive.enabled", havingValue = "true")
+public class ReactiveReadConfig implements DisposableBean {
+
+    private ConnectionPool connectionPool;
+
+    @Bean
+    public DatabaseClient orderDatabaseClient(@Value("${order.read.reactive.url}") String url,
+                                                 @Value("${order.read.reactive.username}") String username,
+                                                 @Value("${order.read.reactive.password}") String password,
+                                                 @Value("${order.read.reactive.pool.max-size:20}") int maxSize) {
+        var options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        var configuration = ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .initialSize(Math.min(5, maxSize))
+                .maxSize(maxSize)
+                .maxIdleTime(Duration.ofMinutes(30))
+                .build();
+        connectionPool = new ConnectionPool(configuration);
+        return DatabaseClient.create(connectionPool);
+    }
+
+    @Bean
+    public ReactiveOrderRepository reactiveOrderRepository(DatabaseClient orderDatabaseClient) {
+        return new R2dbcOrderRepository(orderDatabaseClient);
+    }
+
+    @Override
+    public void destroy() {
+        if (connectionPool != null) {
+            connectionPool.dispose();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.santanna.serviceorder.infrastructure.database;
+
+import com.santanna.serviceorder.application.utils.LoggerUtils;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Substitui o DataSource do auto-configure: o primário continua vindo de spring.datasource e cada URL de
+// order.datasource.replicas.urls ganha um pool próprio. Só o proxy é um bean, então o monitoramento de SQL envolve
+// a rota inteira uma única vez; com threads virtuais o limite de concorrência fica em cada pool, para que as
+// réplicas somem conexões em vez de dividir as permissões do primário.
+@Configuration
+@ConditionalOnProperty(name = "order.datasource.replicas.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean(initMethod = "checkReplicas", destroyMethod = "close")
+    public ReplicaRouter replicaRouter(DataSourceProperties properties, Environment environment, LoggerUtils loggerUtils,
+                                       ObjectProvider<MeterRegistry> meterRegistry,
+                                       @Value("${order.datasource.replicas.urls}") List<String> urls,
+                                       @Value("${order.datasource.replicas.username:${spring.datasource.username:}}") String username,
+                                       @Value("${order.datasource.replicas.password:${spring.datasource.password:}}") String password,
+                                       @Value("${order.datasource.replicas.maximum-pool-size:20}") int maximumPoolSize,
+                                       @Value("${order.datasource.replicas.connection-timeout-ms:1000}") long connectionTimeoutMs,
+                                       @Value("${order.datasource.replicas.max-lag-ms:5000}") long maxLagMs,
+                                       @Value("${order.datasource.replicas.read-your-writes-window-ms:10000}") long readYourWritesWindowMs,
+                                       @Value("${order.datasource.replicas.lag-query:SHOW REPLICA STATUS}") String lagQuery,
+                                       @Value("${order.datasource.replicas.validation-timeout-seconds:1}") int validationTimeoutSeconds) {
+        var primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName(ReplicaRouter.PRIMARY);
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < urls.size(); i++) {
+            var replica = new HikariDataSource();
+            Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(replica));
+            replica.setPoolName("replica-" + (i + 1));
+            replica.setJdbcUrl(urls.get(i).trim());
+            replica.setUsername(username);
+            replica.setPassword(password);
+            replica.setDriverClassName(properties.determineDriverClassName());
+            replica.setMaximumPoolSize(maximumPoolSize);
+            replica.setMinimumIdle(Math.min(replica.getMinimumIdle(), maximumPoolSize));
+            // uma réplica fora do ar devolve a leitura ao primário em vez de segurar a requisição pelo timeout do primário
+            replica.setConnectionTimeout(connectionTimeoutMs);
+            replica.setReadOnly(true);
+            replicas.put(replica.getPoolName(), replica);
+        }
+
+        DataSource primaryTarget = primary;
+        if (Threading.VIRTUAL.isActive(environment)) {
+            primaryTarget = limit(primary, ReplicaRouter.PRIMARY, environment, meterRegistry);
+            replicas.replaceAll((name, replica) -> limit(replica, name, environment, meterRegistry));
+        }
+
+        var router = new ReplicaRouter(primaryTarget, replicas, maxLagMs, readYourWritesWindowMs, lagQuery,
+                validationTimeoutSeconds, loggerUtils);
+        meterRegistry.ifAvailable(router::bindMetrics);
+        return router;
+    }
+
+    private static DataSource limit(DataSource pool, String name, Environment environment,
+                                    ObjectProvider<MeterRegistry> meterRegistry) {
+        var limited = DataSourceConcurrencyConfig.limit(pool, environment);
+        meterRegistry.ifAvailable(registry -> DataSourceConcurrencyConfig.bindMetrics(limited, name, registry));
+        return limited;
+    }
+
+    @Bean
+    public DataSource dataSource(ReplicaRouter replicaRouter) {
+        return new LazyConnectionDataSourceProxy(replicaRouter.getRoutingDataSource());
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+            @Value("${order.datasource.replicas.read-your-writes-window-ms:10000}") long readYourWritesWindowMs,
+            @Value("${order.datasource.replicas.max-lag-ms:5000}") long maxLagMs,
+            @Value("${order.datasource.replicas.health-check-interval-ms:2000}") long healthCheckIntervalMs) {
+        return new FilterRegistrationBean<>(new ReadYourWritesFilter(readYourWritesWindowMs, maxLagMs + healthCheckIntervalMs));
+    }
+}
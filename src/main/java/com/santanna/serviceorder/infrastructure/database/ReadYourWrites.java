@@ -0,0 +1,44 @@
+package com.santanna.serviceorder.infrastructure.database;
+
+import java.util.function.LongConsumer;
+
+// Janela de leitura no primário depois de uma escrita do mesmo cliente. O ReadYourWritesFilter abre o escopo com o
+// prazo que o cliente trouxe da requisição anterior e é avisado quando um commit desta requisição o estende.
+// Fora de um escopo aberto (listeners, tarefas agendadas) nada fica fixado.
+public final class ReadYourWrites {
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    public static void begin(long pinnedUntil, LongConsumer onPin) {
+        CURRENT.set(new Scope(pinnedUntil, onPin));
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    static boolean isPinned() {
+        Scope scope = CURRENT.get();
+        return scope != null && System.currentTimeMillis() < scope.pinnedUntil;
+    }
+
+    static void pin(long windowMs) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.pinnedUntil = System.currentTimeMillis() + windowMs;
+            scope.onPin.accept(scope.pinnedUntil);
+        }
+    }
+
+    private static final class Scope {
+        private long pinnedUntil;
+        private final LongConsumer onPin;
+
+        private Scope(long pinnedUntil, LongConsumer onPin) {
+            this.pinnedUntil = pinnedUntil;
+            this.onPin = onPin;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.santanna.serviceorder.infrastructure.database;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// Leva a janela de leitura no primário entre as requisições de um cliente em um cookie com o prazo em epoch ms.
+// Qualquer instância do serviço respeita o prazo, sem estado compartilhado. O cookie é gravado no commit da escrita,
+// antes de o controller começar a escrever a resposta.
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+    static final String COOKIE = "order-read-primary-until";
+
+    private final long windowMs;
+    private final long maxPinnedMs;
+
+    // maxPinnedMs: atraso máximo aceito nas réplicas somado ao intervalo da verificação; depois disso qualquer
+    // réplica no rodízio já tem a escrita, então um prazo além desse não protege nada
+    public ReadYourWritesFilter(long windowMs, long maxPinnedMs) {
+        this.windowMs = windowMs;
+        this.maxPinnedMs = maxPinnedMs;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        // O prazo vem do cliente: limitado ao atraso máximo a partir de agora, para um cookie editado não fixar o primário
+        long pinnedUntil = Math.min(pinnedUntil(request), System.currentTimeMillis() + maxPinnedMs);
+        ReadYourWrites.begin(pinnedUntil, until -> {
+            var cookie = new Cookie(COOKIE, Long.toString(until));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.ceilDiv(windowMs, 1000L));
+            response.addCookie(cookie);
+        });
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.end();
+        }
+    }
+
+    private static long pinnedUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0L;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0L;
+                }
+            }
+        }
+        return 0L;
+    }
+}
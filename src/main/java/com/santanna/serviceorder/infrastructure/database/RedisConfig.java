@@ -2,7 +2,13 @@ package com.santanna.serviceorder.infrastructure.database;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import org.springframework.cache.CacheManager;
+import com.santanna.serviceorder.application.usecase.exception.NotFoundException;
+import com.santanna.serviceorder.infrastructure.cache.CacheInvalidationPublisher;
+import com.santanna.serviceorder.infrastructure.cache.OrderCacheSerializer;
+import com.santanna.serviceorder.infrastructure.cache.TwoLevelCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,9 +16,14 @@ import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 
 @Configuration
@@ -26,10 +37,25 @@ public class RedisConfig {
     }
 
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory) {
+    public CacheInvalidationPublisher cacheInvalidationPublisher(StringRedisTemplate stringRedisTemplate) {
+        return new CacheInvalidationPublisher(stringRedisTemplate);
+    }
+
+    @Bean
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory,
+                                             CacheInvalidationPublisher cacheInvalidationPublisher,
+                                             ObjectProvider<MeterRegistry> meterRegistry,
+                                             @Value("${order.cache.l1.maximum-size:10000}") long localMaximumSize,
+                                             @Value("${order.cache.l1.ttl-seconds:30}") long localTtlSeconds,
+                                             @Value("${order.cache.negative-ttl-seconds:5}") long negativeTtlSeconds,
+                                             @Value("${order.cache.serializer:binary}") String serializerType,
+                                             @Value("${order.cache.compression-threshold-bytes:256}") int compressionThreshold) {
         var objectMapper = createRedisObjectMapper();
 
-        var serializer = new GenericJackson2JsonRedisSerializer(objectMapper);
+        RedisSerializer<Object> serializer = new GenericJackson2JsonRedisSerializer(objectMapper);
+        if ("binary".equalsIgnoreCase(serializerType)) {
+            serializer = new OrderCacheSerializer(serializer, compressionThreshold);
+        }
 
         var cacheConfiguration = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofMinutes(10))
@@ -37,9 +63,38 @@ public class RedisConfig {
                         RedisSerializationContext.SerializationPair.fromSerializer(serializer)
                 );
 
-        return RedisCacheManager
+        var redisCacheManager = RedisCacheManager
                 .builder(RedisCacheWriter.nonLockingRedisCacheWriter(redisConnectionFactory))
                 .cacheDefaults(cacheConfiguration)
+                .enableStatistics()
                 .build();
+        redisCacheManager.afterPropertiesSet();
+
+        var cacheManager = new TwoLevelCacheManager(redisCacheManager, cacheInvalidationPublisher,
+                meterRegistry.getIfAvailable(), localMaximumSize, Duration.ofSeconds(localTtlSeconds),
+                Duration.ofSeconds(negativeTtlSeconds), RedisConfig::isNotFound);
+        cacheManager.setTransactionAware(true);
+        return cacheManager;
+    }
+
+    // O CacheInterceptor entrega a falha da carga embrulhada, por isso a cadeia de causas é percorrida
+    private static boolean isNotFound(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof NotFoundException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                            TwoLevelCacheManager cacheManager) {
+        var container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> cacheManager.onInvalidation(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(CacheInvalidationPublisher.CHANNEL));
+        return container;
     }
 }
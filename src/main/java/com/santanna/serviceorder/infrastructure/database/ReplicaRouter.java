@@ -0,0 +1,275 @@
+package com.santanna.serviceorder.infrastructure.database;
+
+import com.santanna.serviceorder.application.utils.LoggerUtils;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// Escolhe o pool de cada conexão: transações somente-leitura vão às réplicas em rodízio, o resto ao primário.
+// Uma réplica só recebe leituras enquanto a verificação periódica a encontra acessível e com atraso até maxLagMs;
+// sem réplica disponível, dentro da janela de read-your-writes, se a réplica recusar a conexão ou se a leitura foi
+// marcada com PrimaryReads, ela vai ao primário. O DataSource de rota precisa ficar atrás de um
+// LazyConnectionDataSourceProxy: o flag de somente-leitura da transação só é conhecido depois que o gerenciador de
+// transação pede a conexão.
+public class ReplicaRouter {
+    static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final long maxLagMs;
+    private final long readYourWritesWindowMs;
+    private final String lagQuery;
+    private final int validationTimeoutSeconds;
+    private final LoggerUtils loggerUtils;
+    private final DataSource routingDataSource;
+    private final AtomicInteger next = new AtomicInteger();
+    private final LongAdder pinnedReads = new LongAdder();
+    private final LongAdder fallbackReads = new LongAdder();
+
+    public ReplicaRouter(DataSource primary, Map<String, DataSource> replicas, long maxLagMs, long readYourWritesWindowMs,
+                         String lagQuery, int validationTimeoutSeconds, LoggerUtils loggerUtils) {
+        this.primary = primary;
+        this.replicas = new ArrayList<>();
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource)));
+        this.maxLagMs = maxLagMs;
+        this.readYourWritesWindowMs = readYourWritesWindowMs;
+        this.lagQuery = lagQuery;
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+        this.loggerUtils = loggerUtils;
+
+        var routing = new Routing();
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        this.replicas.forEach(replica -> targets.put(replica.name, replica.dataSource));
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(primary);
+        routing.setLenientFallback(false);
+        routing.afterPropertiesSet();
+        this.routingDataSource = routing;
+    }
+
+    public DataSource getRoutingDataSource() {
+        return routingDataSource;
+    }
+
+    // O DataSource que encaminha por um roteador, mesmo envolvido por proxies (LazyConnectionDataSourceProxy, monitoramento)
+    public static boolean isRouted(DataSource dataSource) {
+        for (DataSource current = dataSource; current instanceof DelegatingDataSource delegating;
+             current = delegating.getTargetDataSource()) {
+            if (delegating.getTargetDataSource() instanceof Routing) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void bindMetrics(MeterRegistry registry) {
+        FunctionCounter.builder("order.datasource.reads.primary", pinnedReads, LongAdder::sum)
+                .description("Read-only transactions kept on the primary by the read-your-writes window")
+                .tag("reason", "pinned")
+                .register(registry);
+        FunctionCounter.builder("order.datasource.reads.primary", fallbackReads, LongAdder::sum)
+                .description("Read-only transactions sent to the primary because no replica was available")
+                .tag("reason", "fallback")
+                .register(registry);
+        for (Replica replica : replicas) {
+            FunctionCounter.builder("order.datasource.reads.replica", replica.reads, LongAdder::sum)
+                    .description("Read-only transactions routed to the replica")
+                    .tag("replica", replica.name)
+                    .register(registry);
+            Gauge.builder("order.datasource.replica.lag", replica, r -> r.lagMs)
+                    .description("Replication lag seen by the last health check, in milliseconds")
+                    .baseUnit("milliseconds")
+                    .tag("replica", replica.name)
+                    .register(registry);
+            Gauge.builder("order.datasource.replica.available", replica, r -> isAvailable(r) ? 1 : 0)
+                    .description("1 while the replica receives reads")
+                    .tag("replica", replica.name)
+                    .register(registry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${order.datasource.replicas.health-check-interval-ms:2000}",
+            initialDelayString = "${order.datasource.replicas.health-check-interval-ms:2000}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            boolean wasAvailable = isAvailable(replica);
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (!connection.isValid(validationTimeoutSeconds)) {
+                    throw new SQLException("Connection validation failed");
+                }
+                replica.lagMs = lagOf(connection);
+                replica.healthy = true;
+            } catch (Exception e) {
+                replica.healthy = false;
+                if (wasAvailable) {
+                    loggerUtils.logWarn(ReplicaRouter.class, "Replica {} is unreachable, reads fall back to the primary: {}",
+                            replica.name, e.getMessage());
+                }
+                continue;
+            }
+            boolean available = isAvailable(replica);
+            if (wasAvailable && !available) {
+                loggerUtils.logWarn(ReplicaRouter.class, "Replica {} is {} ms behind (limit {} ms), reads fall back to the primary",
+                        replica.name, replica.lagMs, maxLagMs);
+            } else if (!wasAvailable && available) {
+                loggerUtils.logInfo(ReplicaRouter.class, "Replica {} is receiving reads, {} ms behind",
+                        replica.name, replica.lagMs);
+            }
+        }
+    }
+
+    public void close() {
+        replicas.forEach(replica -> close(replica.dataSource));
+        close(primary);
+    }
+
+    Object route() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            pinAfterCommit();
+            return PRIMARY;
+        }
+        if (PrimaryReads.isRequested()) {
+            return PRIMARY;
+        }
+        if (ReadYourWrites.isPinned()) {
+            pinnedReads.increment();
+            return PRIMARY;
+        }
+        Replica replica = nextAvailable();
+        if (replica == null) {
+            fallbackReads.increment();
+            return PRIMARY;
+        }
+        replica.reads.increment();
+        return replica.name;
+    }
+
+    // O commit de uma transação de escrita abre a janela em que as leituras do mesmo cliente ficam no primário
+    private void pinAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()
+                && TransactionSynchronizationManager.isActualTransactionActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    ReadYourWrites.pin(readYourWritesWindowMs);
+                }
+            });
+        }
+    }
+
+    private Replica nextAvailable() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (isAvailable(replica)) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private boolean isAvailable(Replica replica) {
+        return replica.healthy && replica.lagMs <= maxLagMs;
+    }
+
+    // SHOW REPLICA STATUS: Seconds_Behind_Source nulo significa replicação parada. Sem linha, o banco não é
+    // uma réplica (um segundo schema no ambiente local) e não há atraso a medir.
+    private long lagOf(Connection connection) throws SQLException {
+        if (lagQuery == null || lagQuery.isBlank()) {
+            return 0L;
+        }
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            if (!resultSet.next()) {
+                return 0L;
+            }
+            int column;
+            try {
+                column = resultSet.findColumn("Seconds_Behind_Source");
+            } catch (SQLException e) {
+                column = 1;
+            }
+            long seconds = resultSet.getLong(column);
+            return resultSet.wasNull() ? Long.MAX_VALUE : seconds * 1000L;
+        }
+    }
+
+    private void replicaFailed(DataSource dataSource, SQLException e) {
+        for (Replica replica : replicas) {
+            if (replica.dataSource == dataSource && replica.healthy) {
+                replica.healthy = false;
+                loggerUtils.logWarn(ReplicaRouter.class, "Replica {} refused a connection, reads fall back to the primary: {}",
+                        replica.name, e.getMessage());
+            }
+        }
+    }
+
+    private static void close(DataSource dataSource) {
+        if (dataSource instanceof DelegatingDataSource delegating) {
+            close(delegating.getTargetDataSource());
+        } else if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                // encerramento da aplicação; o pool já está sendo descartado
+            }
+        }
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private final LongAdder reads = new LongAdder();
+        // fora do rodízio até a primeira verificação
+        private volatile boolean healthy;
+        private volatile long lagMs;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+
+    private final class Routing extends AbstractRoutingDataSource {
+
+        @Override
+        protected Object determineCurrentLookupKey() {
+            return route();
+        }
+
+        // A réplica sai do rodízio na primeira recusa, sem esperar a próxima verificação
+        @Override
+        public Connection getConnection() throws SQLException {
+            DataSource target = determineTargetDataSource();
+            try {
+                return target.getConnection();
+            } catch (SQLException e) {
+                if (target == primary) {
+                    throw e;
+                }
+                replicaFailed(target, e);
+                fallbackReads.increment();
+                return primary.getConnection();
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.santanna.serviceorder.infrastructure.database;
+
+import com.santanna.serviceorder.application.utils.LoggerUtils;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+// Observabilidade de SQL barata o suficiente para ficar ligada em produção, no lugar do show-sql:
+// log de consultas lentas, detector de N+1 por requisição e as estatísticas do Hibernate no Micrometer.
+@Configuration
+@ConditionalOnProperty(name = "order.sql.monitoring.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlMonitoringConfig {
+
+    @Bean
+    public static BeanPostProcessor monitoredDataSourcePostProcessor(Environment environment,
+                                                                     ObjectProvider<LoggerUtils> loggerUtils,
+                                                                     ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof MonitoredDataSource) {
+                    return bean;
+                }
+
+                long slowQueryThresholdMs = environment.getProperty("order.sql.slow-query-threshold-ms", Long.class, 200L);
+                var monitored = new MonitoredDataSource(dataSource, slowQueryThresholdMs, loggerUtils.getObject());
+                meterRegistry.ifAvailable(registry -> {
+                    FunctionCounter.builder("order.sql.slow.queries", monitored, MonitoredDataSource::getSlowQueryCount)
+                            .description("Statements slower than order.sql.slow-query-threshold-ms")
+                            .tag("name", beanName)
+                            .register(registry);
+                    FunctionCounter.builder("order.sql.statements", monitored, MonitoredDataSource::getStatementCount)
+                            .description("Statements executed through JDBC, native and JdbcTemplate ones included")
+                            .tag("name", beanName)
+                            .register(registry);
+                });
+                return monitored;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<StatementCountFilter> statementCountFilter(
+            @Value("${order.sql.max-statements-per-request:20}") int maxStatementsPerRequest,
+            LoggerUtils loggerUtils, MeterRegistry meterRegistry) {
+        return new FilterRegistrationBean<>(new StatementCountFilter(maxStatementsPerRequest, loggerUtils, meterRegistry));
+    }
+
+    @Bean
+    public QueryStatisticsMetrics queryStatisticsMetrics(EntityManagerFactory entityManagerFactory, MeterRegistry meterRegistry,
+                                                         @Value("${order.sql.max-tracked-queries:200}") int maxTrackedQueries) {
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return new QueryStatisticsMetrics(statistics, meterRegistry, maxTrackedQueries);
+    }
+}
@@ -0,0 +1,55 @@
+package com.santanna.serviceorder.infrastructure.database;
+
+import com.santanna.serviceorder.application.utils.LoggerUtils;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+// Detector de N+1: conta as instruções SQL de cada requisição e sinaliza as que passam de maxStatementsPerRequest,
+// com a rota (o padrão do mapeamento, não a URI) para manter a cardinalidade da métrica baixa.
+public class StatementCountFilter extends OncePerRequestFilter {
+
+    private final int maxStatementsPerRequest;
+    private final LoggerUtils loggerUtils;
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary statementsPerRequest;
+
+    public StatementCountFilter(int maxStatementsPerRequest, LoggerUtils loggerUtils, MeterRegistry meterRegistry) {
+        this.maxStatementsPerRequest = maxStatementsPerRequest;
+        this.loggerUtils = loggerUtils;
+        this.meterRegistry = meterRegistry;
+        this.statementsPerRequest = DistributionSummary.builder("order.sql.statements.per.request")
+                .description("SQL statements executed while serving one HTTP request")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        StatementCounter.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int statements = StatementCounter.end();
+            statementsPerRequest.record(statements);
+            if (statements > maxStatementsPerRequest) {
+                flag(request, statements);
+            }
+        }
+    }
+
+    private void flag(HttpServletRequest request, int statements) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String route = pattern != null ? pattern.toString() : "UNKNOWN";
+        meterRegistry.counter("order.sql.excessive.requests", "method", request.getMethod(), "uri", route).increment();
+        loggerUtils.logWarn(StatementCountFilter.class, "{} {} issued {} SQL statements (limit {}), possible N+1 query",
+                request.getMethod(), route, statements, maxStatementsPerRequest);
+    }
+}
@@ -0,0 +1,27 @@
+package com.santanna.serviceorder.infrastructure.database;
+
+// Instruções SQL executadas pela thread atual entre begin() e end(), ou seja, dentro de uma requisição HTTP.
+// Fora de um escopo aberto (listeners, tarefas agendadas) a contagem não faz nada.
+public final class StatementCounter {
+    private static final ThreadLocal<int[]> CURRENT = new ThreadLocal<>();
+
+    private StatementCounter() {
+    }
+
+    public static void begin() {
+        CURRENT.set(new int[1]);
+    }
+
+    public static int end() {
+        int[] count = CURRENT.get();
+        CURRENT.remove();
+        return count == null ? 0 : count[0];
+    }
+
+    static void increment() {
+        int[] count = CURRENT.get();
+        if (count != null) {
+            count[0]++;
+        }
+    }
+}
@@ -4,34 +4,38 @@ import com.santanna.serviceorder.domain.model.OrderStatus;
 import jakarta.persistence.*;
 import lombok.*;
 
-import java.math.BigDecimal;
-import java.time.LocalDateTime;
-
+// No MySQL a tabela é criada pelo OrderSchemaManager, particionada por mês em createdAt e com chave primária
+// (id, createdAt); a unicidade do orderNumber fica em order_numbers (OrderNumberEntity)
 @Entity
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "orders",indexes = {
-        @Index(name = "idx_order_number", columnList = "orderNumber"),
-        @Index(name = "idx_order_status", columnList = "orderStatus")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_order_status_created", columnList = "orderStatus, createdAt, id")
 })
 public class OrderEntity {
+    // Atribuído pela aplicação (OrderIdGenerator) antes do insert, o que permite ao Hibernate agrupar os inserts em lote
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     private String orderNumber;
 
-    private String productName;
+    // Id no dicionário de produtos (ProductDictionary); o nome não se repete em cada linha
+    private int productId;
+
+    private int quantity;
 
-    private Integer quantity;
+    // Mesma representação do Order: unidades mínimas da moeda e milissegundos desde a época (UTC),
+    // então a conversão entre entidade e domínio é só uma cópia de campos
+    private long totalValue;
 
-    private BigDecimal totalValue;
+    @Column(length = 3)
+    private String currency;
 
     @Enumerated(EnumType.STRING)
     private OrderStatus orderStatus;
 
-    private LocalDateTime createdAt;
+    private long createdAt;
 }
@@ -0,0 +1,24 @@
+package com.santanna.serviceorder.infrastructure.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// Registro dos números de pedido. Com orders particionada por createdAt, toda chave única de orders precisa
+// incluir createdAt, então a unicidade do número fica nesta tabela, que também leva ao pedido (id + createdAt)
+// sem varrer todas as partições.
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "order_numbers", indexes = {
+        @Index(name = "idx_order_numbers_created_at", columnList = "createdAt")
+})
+public class OrderNumberEntity {
+    @Id
+    private String orderNumber;
+
+    private long orderId;
+
+    private long createdAt;
+}
@@ -0,0 +1,23 @@
+package com.santanna.serviceorder.infrastructure.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// Dicionário de produtos: cada nome é gravado uma vez e os pedidos guardam só o id inteiro.
+// Colação binária para que nomes que diferem só em maiúsculas/minúsculas continuem distintos.
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "products", indexes = {
+        @Index(name = "idx_product_name", columnList = "name", unique = true)
+})
+public class ProductEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(nullable = false, columnDefinition = "varchar(255) collate utf8mb4_bin")
+    private String name;
+}
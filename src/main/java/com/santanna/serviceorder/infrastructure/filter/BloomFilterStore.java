@@ -0,0 +1,26 @@
+package com.santanna.serviceorder.infrastructure.filter;
+
+import java.util.Collection;
+
+// Armazenamento dos bits do filtro de números de pedido: em memória, por réplica, ou em um bitmap
+// compartilhado no Redis.
+public interface BloomFilterStore {
+
+    boolean mightContain(String value);
+
+    void put(String value);
+
+    void putAll(Collection<String> values);
+
+    // Um filtro ainda não aquecido não pode responder "ausente" com segurança
+    boolean isWarm();
+
+    void markWarm();
+
+    // Apenas um nó carrega o filtro compartilhado; no filtro local o próprio nó sempre carrega
+    boolean tryAcquireWarmup();
+
+    double expectedFalsePositiveRate();
+
+    long sizeInBytes();
+}
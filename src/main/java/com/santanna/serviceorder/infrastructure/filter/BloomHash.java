@@ -0,0 +1,37 @@
+package com.santanna.serviceorder.infrastructure.filter;
+
+// Hash de 64 bits (FNV-1a com o finalizador do MurmurHash3) dividido em duas metades de 32 bits para gerar
+// as k posições por hashing duplo, como descrito por Kirsch e Mitzenmacher.
+final class BloomHash {
+
+    private BloomHash() {
+    }
+
+    static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    static long index(long hash, int i, long bits) {
+        long h1 = hash & 0xffffffffL;
+        long h2 = (hash >>> 32) | 1;
+        return Math.floorMod(h1 + i * h2, bits);
+    }
+
+    static long optimalBits(long capacity, double falsePositiveRate) {
+        return Math.max(64, (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+    }
+
+    static int optimalHashes(long capacity, long bits) {
+        return Math.max(1, (int) Math.round((double) bits / capacity * Math.log(2)));
+    }
+}
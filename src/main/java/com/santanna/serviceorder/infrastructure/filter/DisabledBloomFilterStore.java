@@ -0,0 +1,44 @@
+package com.santanna.serviceorder.infrastructure.filter;
+
+import java.util.Collection;
+
+// Filtro desligado: nunca fica aquecido nem carrega nada, então toda checagem de duplicidade vai ao banco
+public class DisabledBloomFilterStore implements BloomFilterStore {
+
+    @Override
+    public boolean mightContain(String value) {
+        return true;
+    }
+
+    @Override
+    public void put(String value) {
+    }
+
+    @Override
+    public void putAll(Collection<String> values) {
+    }
+
+    @Override
+    public boolean isWarm() {
+        return false;
+    }
+
+    @Override
+    public void markWarm() {
+    }
+
+    @Override
+    public boolean tryAcquireWarmup() {
+        return false;
+    }
+
+    @Override
+    public double expectedFalsePositiveRate() {
+        return 1.0;
+    }
+
+    @Override
+    public long sizeInBytes() {
+        return 0;
+    }
+}
@@ -0,0 +1,77 @@
+package com.santanna.serviceorder.infrastructure.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Collection;
+
+// Pré-checagem de duplicidade dos números de pedido. "Ausente" é definitivo e dispensa a consulta ao banco;
+// "talvez presente" precisa ser confirmado no banco. Enquanto o filtro não está aquecido, ou se o armazenamento
+// falhar, a resposta é sempre "talvez presente", então o banco continua sendo a fonte da verdade.
+public class OrderNumberFilter {
+
+    private final BloomFilterStore store;
+    private final Counter definitelyAbsent;
+    private final Counter maybePresent;
+    private final Counter falsePositives;
+
+    public OrderNumberFilter(BloomFilterStore store, MeterRegistry meterRegistry) {
+        this.store = store;
+        this.definitelyAbsent = Counter.builder("order.number.filter.checks")
+                .description("Duplicate checks answered by the order number filter")
+                .tag("result", "absent")
+                .register(meterRegistry);
+        this.maybePresent = Counter.builder("order.number.filter.checks")
+                .description("Duplicate checks answered by the order number filter")
+                .tag("result", "maybe-present")
+                .register(meterRegistry);
+        this.falsePositives = Counter.builder("order.number.filter.false.positives")
+                .description("Maybe-present answers that the database did not confirm")
+                .register(meterRegistry);
+        Gauge.builder("order.number.filter.expected.false.positive.rate", store, BloomFilterStore::expectedFalsePositiveRate)
+                .description("False positive rate estimated from the filter's fill ratio")
+                .register(meterRegistry);
+        Gauge.builder("order.number.filter.size", store, BloomFilterStore::sizeInBytes)
+                .description("Memory used by the filter bits")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    public boolean mightContain(String orderNumber) {
+        try {
+            if (!store.isWarm()) {
+                return true;
+            }
+            boolean result = store.mightContain(orderNumber);
+            (result ? maybePresent : definitelyAbsent).increment();
+            return result;
+        } catch (RuntimeException e) {
+            return true;
+        }
+    }
+
+    public void recordFalsePositives(long count) {
+        falsePositives.increment(count);
+    }
+
+    public void put(String orderNumber) {
+        store.put(orderNumber);
+    }
+
+    public void putAll(Collection<String> orderNumbers) {
+        store.putAll(orderNumbers);
+    }
+
+    public boolean isWarm() {
+        return store.isWarm();
+    }
+
+    public boolean tryAcquireWarmup() {
+        return store.tryAcquireWarmup();
+    }
+
+    public void markWarm() {
+        store.markWarm();
+    }
+}
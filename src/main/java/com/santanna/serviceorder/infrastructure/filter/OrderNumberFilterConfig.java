@@ -0,0 +1,47 @@
+package com.santanna.serviceorder.infrastructure.filter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@Configuration
+public class OrderNumberFilterConfig {
+
+    // Desligado por padrão: o modo redis faz um nó ler todos os números de pedido do primário na primeira subida
+    @Bean
+    @ConditionalOnProperty(name = "order.number-filter.mode", havingValue = "none", matchIfMissing = true)
+    public BloomFilterStore disabledOrderNumberFilterStore() {
+        return new DisabledBloomFilterStore();
+    }
+
+    // Filtro por réplica: só enxerga os inserts feitos por este nó, então serve apenas para instância única
+    @Bean
+    @ConditionalOnProperty(name = "order.number-filter.mode", havingValue = "local")
+    public BloomFilterStore localOrderNumberFilterStore(
+            @Value("${order.number-filter.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${order.number-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        return new ScalableBloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    // Bitmaps compartilhados que crescem em estágios: expected-insertions é só a capacidade do primeiro estágio.
+    // A carga inicial é feita por um único nó do cluster, sob a trava de tryAcquireWarmup
+    @Bean
+    @ConditionalOnProperty(name = "order.number-filter.mode", havingValue = "redis")
+    public BloomFilterStore redisOrderNumberFilterStore(
+            StringRedisTemplate redisTemplate,
+            @Value("${order.number-filter.redis-key:service-order:order-numbers:bloom}") String key,
+            @Value("${order.number-filter.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${order.number-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        return new RedisBloomFilter(redisTemplate, key, expectedInsertions, falsePositiveRate);
+    }
+
+    @Bean
+    public OrderNumberFilter orderNumberFilter(BloomFilterStore store, ObjectProvider<MeterRegistry> meterRegistry) {
+        return new OrderNumberFilter(store, meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+}
@@ -0,0 +1,78 @@
+package com.santanna.serviceorder.infrastructure.filter;
+
+import com.santanna.serviceorder.application.utils.LoggerUtils;
+import com.santanna.serviceorder.infrastructure.database.PrimaryReads;
+import com.santanna.serviceorder.infrastructure.persistence.SpringDataOrderRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Carrega no filtro os números de pedido já gravados, lendo a coluna em streaming. Até terminar, o filtro responde
+// "talvez presente" e a checagem vai ao banco como antes; inserts feitos durante a carga entram no filtro pelo
+// repositório, então nada fica de fora. A carga é refeita periodicamente enquanto o filtro não estiver aquecido: depois
+// de uma falha, ou quando o Redis perde o filtro (FLUSHALL, evicção, failover sem persistência).
+@Component
+public class OrderNumberFilterWarmup {
+
+    private final OrderNumberFilter orderNumberFilter;
+    private final SpringDataOrderRepository springDataOrderRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final LoggerUtils loggerUtils;
+    private final int batchSize;
+
+    public OrderNumberFilterWarmup(OrderNumberFilter orderNumberFilter, SpringDataOrderRepository springDataOrderRepository,
+                                   PlatformTransactionManager transactionManager, LoggerUtils loggerUtils,
+                                   @Value("${order.export.fetch-size:1000}") int batchSize) {
+        this.orderNumberFilter = orderNumberFilter;
+        this.springDataOrderRepository = springDataOrderRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.loggerUtils = loggerUtils;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${order.number-filter.warmup-retry-interval-ms:60000}",
+            fixedDelayString = "${order.number-filter.warmup-retry-interval-ms:60000}")
+    public void warmUp() {
+        try {
+            if (orderNumberFilter.isWarm() || !orderNumberFilter.tryAcquireWarmup()) {
+                return;
+            }
+
+            long started = System.nanoTime();
+            // No primário: o filtro não pode deixar de fora números que a réplica ainda não recebeu
+            Long loaded = PrimaryReads.call(() -> transactionTemplate.execute(status -> {
+                long count = 0;
+                List<String> batch = new ArrayList<>(batchSize);
+                try (var orderNumbers = springDataOrderRepository.streamAllOrderNumbers()) {
+                    var iterator = orderNumbers.iterator();
+                    while (iterator.hasNext()) {
+                        batch.add(iterator.next());
+                        if (batch.size() == batchSize) {
+                            orderNumberFilter.putAll(batch);
+                            count += batch.size();
+                            batch.clear();
+                        }
+                    }
+                }
+                orderNumberFilter.putAll(batch);
+                return count + batch.size();
+            }));
+            orderNumberFilter.markWarm();
+
+            loggerUtils.logInfo(OrderNumberFilterWarmup.class, "Order number filter warmed with {} orders in {} ms",
+                    loaded, (System.nanoTime() - started) / 1_000_000);
+        } catch (Exception e) {
+            loggerUtils.logWarn(OrderNumberFilterWarmup.class,
+                    "Order number filter warmup failed, duplicate checks keep going to the database until the next retry: {}", e.getMessage());
+        }
+    }
+}
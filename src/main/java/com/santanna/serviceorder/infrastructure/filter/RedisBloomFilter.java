@@ -0,0 +1,276 @@
+package com.santanna.serviceorder.infrastructure.filter;
+
+import org.springframework.data.redis.connection.BitFieldSubCommands;
+import org.springframework.data.redis.connection.BitFieldSubCommands.BitFieldType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// Filtro de Bloom escalável em bitmaps do Redis, compartilhado por todas as réplicas: um insert feito em qualquer nó
+// passa a ser visto pelos demais. Como no ScalableBloomFilter, quando o estágio atual atinge a capacidade um novo
+// estágio com o dobro da capacidade e metade da taxa de falso positivo é criado, então a taxa total fica abaixo da
+// configurada para qualquer número de pedidos. Cada estágio é um bitmap próprio (limitado a 2^32 bits pelo Redis);
+// o número de estágios e as entradas de cada um ficam em chaves ao lado dos bitmaps.
+// Cada consulta é um único pipeline que também confere se a marca de aquecido e os bitmaps ainda existem: depois de
+// um FLUSHALL ou de uma evicção o filtro volta a responder "talvez presente" na consulta seguinte, até ser recarregado.
+public class RedisBloomFilter implements BloomFilterStore {
+
+    private static final BitFieldType BIT = BitFieldType.unsigned(1);
+    private static final int GROWTH_FACTOR = 2;
+    private static final double TIGHTENING_RATIO = 0.5;
+    private static final long MAX_BITS = 1L << 32;
+    private static final Duration WARM_CHECK_INTERVAL = Duration.ofSeconds(5);
+    private static final Duration BIT_COUNT_INTERVAL = Duration.ofSeconds(30);
+    private static final Duration WARMUP_LOCK_TTL = Duration.ofMinutes(10);
+    // Só cresce se ninguém cresceu antes: nós que encontram o mesmo estágio cheio criam um único estágio novo
+    private static final RedisScript<Long> GROW = new DefaultRedisScript<>("""
+            local current = tonumber(redis.call('GET', KEYS[1]) or '1')
+            if current == tonumber(ARGV[1]) then
+                current = current + 1
+                redis.call('SET', KEYS[1], current)
+            end
+            return current
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String key;
+    private final String stagesKey;
+    private final byte[] rawStagesKey;
+    private final String warmKey;
+    private final byte[] rawWarmKey;
+    private final String warmupLockKey;
+    private final long initialCapacity;
+    private final double falsePositiveRate;
+    private final List<Stage> stages = new CopyOnWriteArrayList<>();
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private volatile int stageCount = 1;
+    private volatile boolean warm;
+    private volatile long warmCheckedAt;
+    private volatile double cachedFalsePositiveRate;
+    private volatile long falsePositiveRateComputedAt;
+
+    public RedisBloomFilter(StringRedisTemplate redisTemplate, String key, long initialCapacity,
+                            double falsePositiveRate) {
+        if (initialCapacity <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Bloom filter needs a positive capacity and a false positive rate in (0, 1)");
+        }
+        if (BloomHash.optimalBits(initialCapacity, falsePositiveRate * (1 - TIGHTENING_RATIO)) > MAX_BITS) {
+            throw new IllegalArgumentException("Redis bitmaps are limited to 2^32 bits; lower the expected insertions");
+        }
+        this.redisTemplate = redisTemplate;
+        // v2: os bitmaps do filtro de tamanho fixo usavam outro número de bits e de hashes
+        this.key = key + ":v2";
+        this.stagesKey = this.key + ":stages";
+        this.rawStagesKey = stagesKey.getBytes(StandardCharsets.UTF_8);
+        this.warmKey = this.key + ":warm";
+        this.rawWarmKey = warmKey.getBytes(StandardCharsets.UTF_8);
+        this.warmupLockKey = this.key + ":warming";
+        this.initialCapacity = initialCapacity;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    @Override
+    public boolean mightContain(String value) {
+        long hash = BloomHash.hash64(value);
+        while (true) {
+            int known = stageCount;
+            // Os estágios conhecidos mais um: um estágio criado por outro nó desde a última leitura também é consultado
+            List<Object> replies = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.stringCommands().get(rawStagesKey);
+                connection.keyCommands().exists(sentinels(known));
+                for (int i = 0; i <= known; i++) {
+                    Stage stage = stage(i);
+                    connection.stringCommands().bitField(stage.rawKey, stage.lookup(hash));
+                }
+                return null;
+            });
+
+            int current = updateStageCount(replies.get(0));
+            if (current > known + 1) {
+                continue;
+            }
+            Long existing = (Long) replies.get(1);
+            if (existing == null || existing < known + 1) {
+                warm = false;
+                return true;
+            }
+            for (int i = 2; i < replies.size(); i++) {
+                if (allSet(replies.get(i))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    @Override
+    public void put(String value) {
+        putAll(List.of(value));
+    }
+
+    @Override
+    public void putAll(Collection<String> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+        int current = stageCount;
+        Stage stage = stage(current - 1);
+        List<Object> replies = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String value : values) {
+                connection.stringCommands().bitField(stage.rawKey, stage.insertion(BloomHash.hash64(value)));
+            }
+            connection.stringCommands().incrBy(stage.rawCountKey, values.size());
+            connection.stringCommands().get(rawStagesKey);
+            return null;
+        });
+
+        Long entries = (Long) replies.get(values.size());
+        updateStageCount(replies.get(values.size() + 1));
+        if (entries != null && entries >= stage.capacity && stageCount == current) {
+            Long grown = redisTemplate.execute(GROW, List.of(stagesKey), String.valueOf(current));
+            updateStageCount(grown);
+        }
+    }
+
+    // A marca é conferida de novo a cada intervalo, nos dois sentidos: um Redis esvaziado volta a ser "frio"
+    @Override
+    public boolean isWarm() {
+        long now = System.nanoTime();
+        if (warmCheckedAt == 0 || now - warmCheckedAt >= WARM_CHECK_INTERVAL.toNanos()) {
+            warmCheckedAt = now;
+            warm = Boolean.TRUE.equals(redisTemplate.hasKey(warmKey));
+        }
+        return warm;
+    }
+
+    @Override
+    public void markWarm() {
+        redisTemplate.opsForValue().set(warmKey, nodeId);
+        redisTemplate.delete(warmupLockKey);
+        warm = true;
+        warmCheckedAt = System.nanoTime();
+    }
+
+    @Override
+    public boolean tryAcquireWarmup() {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(warmupLockKey, nodeId, WARMUP_LOCK_TTL));
+    }
+
+    // BITCOUNT percorre cada bitmap inteiro, então o resultado é reaproveitado por BIT_COUNT_INTERVAL
+    @Override
+    public double expectedFalsePositiveRate() {
+        long now = System.nanoTime();
+        if (falsePositiveRateComputedAt == 0 || now - falsePositiveRateComputedAt >= BIT_COUNT_INTERVAL.toNanos()) {
+            double allNegative = 1.0;
+            for (int i = 0; i < stageCount; i++) {
+                Stage stage = stage(i);
+                Long bitsSet = redisTemplate.execute((RedisCallback<Long>) connection -> connection.stringCommands().bitCount(stage.rawKey));
+                allNegative *= 1 - Math.pow((double) (bitsSet != null ? bitsSet : 0) / stage.bits, stage.hashes);
+            }
+            cachedFalsePositiveRate = 1 - allNegative;
+            falsePositiveRateComputedAt = now;
+        }
+        return cachedFalsePositiveRate;
+    }
+
+    @Override
+    public long sizeInBytes() {
+        long bytes = 0;
+        for (int i = 0; i < stageCount; i++) {
+            bytes += stage(i).bits / Byte.SIZE;
+        }
+        return bytes;
+    }
+
+    // Capacidade do estágio index: dobra a cada estágio até o bitmap chegar a 2^32 bits, depois se mantém
+    static long stageCapacity(long initialCapacity, double falsePositiveRate, int index) {
+        double rate = stageFalsePositiveRate(falsePositiveRate, index);
+        long capacity = initialCapacity;
+        for (int i = 0; i < index && BloomHash.optimalBits(capacity * GROWTH_FACTOR, rate) <= MAX_BITS; i++) {
+            capacity *= GROWTH_FACTOR;
+        }
+        while (BloomHash.optimalBits(capacity, rate) > MAX_BITS) {
+            capacity /= GROWTH_FACTOR;
+        }
+        return capacity;
+    }
+
+    static double stageFalsePositiveRate(double falsePositiveRate, int index) {
+        return falsePositiveRate * (1 - TIGHTENING_RATIO) * Math.pow(TIGHTENING_RATIO, index);
+    }
+
+    private Stage stage(int index) {
+        while (stages.size() <= index) {
+            synchronized (stages) {
+                int next = stages.size();
+                if (next <= index) {
+                    stages.add(new Stage(key + ":" + next, stageCapacity(initialCapacity, falsePositiveRate, next),
+                            stageFalsePositiveRate(falsePositiveRate, next)));
+                }
+            }
+        }
+        return stages.get(index);
+    }
+
+    // A chave de estágios é a fonte da verdade; sem ela (Redis esvaziado) o filtro recomeça do primeiro estágio
+    private int updateStageCount(Object reply) {
+        int current = reply == null ? 1 : Integer.parseInt(reply.toString());
+        stageCount = current;
+        return current;
+    }
+
+    private byte[][] sentinels(int stageCount) {
+        byte[][] keys = new byte[stageCount + 1][];
+        keys[0] = rawWarmKey;
+        for (int i = 0; i < stageCount; i++) {
+            keys[i + 1] = stage(i).rawKey;
+        }
+        return keys;
+    }
+
+    private static boolean allSet(Object reply) {
+        return reply instanceof List<?> bits && !bits.isEmpty()
+                && bits.stream().allMatch(bit -> bit instanceof Long l && l == 1L);
+    }
+
+    private static final class Stage {
+        private final byte[] rawKey;
+        private final byte[] rawCountKey;
+        private final long capacity;
+        private final long bits;
+        private final int hashes;
+
+        private Stage(String key, long capacity, double falsePositiveRate) {
+            this.rawKey = key.getBytes(StandardCharsets.UTF_8);
+            this.rawCountKey = (key + ":entries").getBytes(StandardCharsets.UTF_8);
+            this.capacity = capacity;
+            this.bits = BloomHash.optimalBits(capacity, falsePositiveRate);
+            this.hashes = BloomHash.optimalHashes(capacity, bits);
+        }
+
+        private BitFieldSubCommands lookup(long hash) {
+            var commands = BitFieldSubCommands.create();
+            for (int i = 0; i < hashes; i++) {
+                commands = commands.get(BIT).valueAt(BloomHash.index(hash, i, bits));
+            }
+            return commands;
+        }
+
+        private BitFieldSubCommands insertion(long hash) {
+            var commands = BitFieldSubCommands.create();
+            for (int i = 0; i < hashes; i++) {
+                commands = commands.set(BIT).valueAt(BloomHash.index(hash, i, bits)).to(1);
+            }
+            return commands;
+        }
+    }
+}
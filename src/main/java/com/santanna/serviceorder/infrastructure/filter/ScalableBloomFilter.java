@@ -0,0 +1,153 @@
+package com.santanna.serviceorder.infrastructure.filter;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Filtro de Bloom escalável (Almeida et al.): quando o estágio atual atinge a capacidade, um novo estágio com o
+// dobro do tamanho e metade da taxa de falso positivo é criado, então a taxa total fica abaixo da configurada
+// sem precisar conhecer o número de pedidos de antemão. Consultas e inserções não usam lock.
+public class ScalableBloomFilter implements BloomFilterStore {
+
+    private static final int GROWTH_FACTOR = 2;
+    private static final double TIGHTENING_RATIO = 0.5;
+
+    private final List<Stage> stages = new CopyOnWriteArrayList<>();
+    private volatile boolean warm;
+
+    public ScalableBloomFilter(long initialCapacity, double falsePositiveRate) {
+        if (initialCapacity <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Bloom filter needs a positive capacity and a false positive rate in (0, 1)");
+        }
+        stages.add(new Stage(initialCapacity, falsePositiveRate * (1 - TIGHTENING_RATIO)));
+    }
+
+    @Override
+    public boolean mightContain(String value) {
+        long hash = BloomHash.hash64(value);
+        for (Stage stage : stages) {
+            if (stage.mightContain(hash)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void put(String value) {
+        long hash = BloomHash.hash64(value);
+        for (Stage stage : stages) {
+            if (stage.mightContain(hash)) {
+                return;
+            }
+        }
+        currentStage().put(hash);
+    }
+
+    @Override
+    public void putAll(Collection<String> values) {
+        values.forEach(this::put);
+    }
+
+    @Override
+    public boolean isWarm() {
+        return warm;
+    }
+
+    @Override
+    public void markWarm() {
+        warm = true;
+    }
+
+    @Override
+    public boolean tryAcquireWarmup() {
+        return true;
+    }
+
+    // Estimativa pela ocupação real de cada estágio: (bits ligados / bits)^k, combinada entre estágios
+    @Override
+    public double expectedFalsePositiveRate() {
+        double allNegative = 1.0;
+        for (Stage stage : stages) {
+            allNegative *= 1 - stage.expectedFalsePositiveRate();
+        }
+        return 1 - allNegative;
+    }
+
+    @Override
+    public long sizeInBytes() {
+        return stages.stream().mapToLong(stage -> stage.words.length() * (long) Long.BYTES).sum();
+    }
+
+    int stageCount() {
+        return stages.size();
+    }
+
+    private Stage currentStage() {
+        Stage last = stages.get(stages.size() - 1);
+        if (last.entries.get() < last.capacity) {
+            return last;
+        }
+        synchronized (stages) {
+            last = stages.get(stages.size() - 1);
+            if (last.entries.get() >= last.capacity) {
+                last = new Stage(last.capacity * GROWTH_FACTOR, last.falsePositiveRate * TIGHTENING_RATIO);
+                stages.add(last);
+            }
+            return last;
+        }
+    }
+
+    private static final class Stage {
+        private final long capacity;
+        private final double falsePositiveRate;
+        private final long bits;
+        private final int hashes;
+        private final AtomicLongArray words;
+        private final AtomicLong entries = new AtomicLong();
+        private final AtomicLong bitsSet = new AtomicLong();
+
+        private Stage(long capacity, double falsePositiveRate) {
+            this.capacity = capacity;
+            this.falsePositiveRate = falsePositiveRate;
+            this.bits = BloomHash.optimalBits(capacity, falsePositiveRate);
+            this.hashes = BloomHash.optimalHashes(capacity, bits);
+            this.words = new AtomicLongArray(Math.toIntExact((bits + Long.SIZE - 1) / Long.SIZE));
+        }
+
+        private boolean mightContain(long hash) {
+            for (int i = 0; i < hashes; i++) {
+                long index = BloomHash.index(hash, i, bits);
+                if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void put(long hash) {
+            for (int i = 0; i < hashes; i++) {
+                long index = BloomHash.index(hash, i, bits);
+                int word = (int) (index >>> 6);
+                long mask = 1L << index;
+                long current;
+                do {
+                    current = words.get(word);
+                    if ((current & mask) != 0) {
+                        break;
+                    }
+                } while (!words.compareAndSet(word, current, current | mask));
+                if ((current & mask) == 0) {
+                    bitsSet.incrementAndGet();
+                }
+            }
+            entries.incrementAndGet();
+        }
+
+        private double expectedFalsePositiveRate() {
+            return Math.pow((double) bitsSet.get() / bits, hashes);
+        }
+    }
+}
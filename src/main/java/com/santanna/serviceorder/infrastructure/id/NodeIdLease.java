@@ -0,0 +1,124 @@
+package com.santanna.serviceorder.infrastructure.id;
+
+import com.santanna.serviceorder.application.utils.LoggerUtils;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Reserva um node id do TSID na tabela order_id_node_lease, para que duas réplicas nunca gerem IDs com o mesmo nó.
+// A reserva vale por ttl no banco e é renovada a cada renew-interval-ms; localmente ela só é considerada válida por
+// metade do ttl desde a última renovação, o que cobre atrasos da renovação e diferença de relógio entre os nós.
+// Sem id livre a inicialização falha, e se a renovação parar o gerador recusa novos IDs em vez de arriscar colisão.
+// A renovação roda em uma thread própria: um job lento no scheduler do Spring não pode deixar a reserva vencer.
+public class NodeIdLease {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration ttl;
+    private final LoggerUtils loggerUtils;
+    private final Clock clock;
+    private final String owner = UUID.randomUUID().toString();
+
+    private volatile int nodeId = -1;
+    private volatile long validUntil;
+    private ScheduledExecutorService renewer;
+
+    public NodeIdLease(JdbcTemplate jdbcTemplate, Duration ttl, LoggerUtils loggerUtils) {
+        this(jdbcTemplate, ttl, loggerUtils, Clock.systemUTC());
+    }
+
+    NodeIdLease(JdbcTemplate jdbcTemplate, Duration ttl, LoggerUtils loggerUtils, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttl = ttl;
+        this.loggerUtils = loggerUtils;
+        this.clock = clock;
+    }
+
+    public int acquire() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS order_id_node_lease ("
+                + "node_id INT NOT NULL PRIMARY KEY, owner VARCHAR(64) NOT NULL, expires_at BIGINT NOT NULL)");
+
+        // Começa de um ponto aleatório para que réplicas subindo juntas não disputem os mesmos ids
+        int start = ThreadLocalRandom.current().nextInt(TsidOrderIdGenerator.MAX_NODE_ID + 1);
+        for (int i = 0; i <= TsidOrderIdGenerator.MAX_NODE_ID; i++) {
+            int candidate = (start + i) & TsidOrderIdGenerator.MAX_NODE_ID;
+            long now = clock.millis();
+            if (claim(candidate, now)) {
+                validUntil = now + ttl.toMillis() / 2;
+                nodeId = candidate;
+                return candidate;
+            }
+        }
+        throw new IllegalStateException("No free order id node: all " + (TsidOrderIdGenerator.MAX_NODE_ID + 1)
+                + " node ids are leased");
+    }
+
+    public synchronized void startRenewing(Duration interval) {
+        if (renewer != null) {
+            return;
+        }
+        renewer = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("order-id-lease").daemon().factory());
+        renewer.scheduleWithFixedDelay(() -> {
+            // Uma exceção cancelaria o agendamento: falhas só fazem a reserva vencer localmente, a próxima tentativa segue
+            try {
+                renew();
+            } catch (RuntimeException e) {
+                loggerUtils.logError(NodeIdLease.class, "Could not renew order id node {} lease", e, nodeId);
+            }
+        }, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void renew() {
+        if (nodeId < 0) {
+            return;
+        }
+        long now = clock.millis();
+        int updated = jdbcTemplate.update("UPDATE order_id_node_lease SET expires_at = ? WHERE node_id = ? AND owner = ?",
+                now + ttl.toMillis(), nodeId, owner);
+        if (updated == 0) {
+            // Outro nó assumiu o id depois que a reserva expirou: a partir daqui nenhum ID pode sair com ele
+            validUntil = 0;
+            throw new IllegalStateException("Order id node " + nodeId + " was leased by another instance");
+        }
+        validUntil = now + ttl.toMillis() / 2;
+    }
+
+    public void release() {
+        synchronized (this) {
+            if (renewer != null) {
+                renewer.shutdownNow();
+            }
+        }
+        if (nodeId >= 0) {
+            validUntil = 0;
+            jdbcTemplate.update("DELETE FROM order_id_node_lease WHERE node_id = ? AND owner = ?", nodeId, owner);
+        }
+    }
+
+    public int getNodeId() {
+        return nodeId;
+    }
+
+    public void checkHeld() {
+        if (clock.millis() >= validUntil) {
+            throw new IllegalStateException("Order id node " + nodeId + " lease is not held; refusing to generate ids");
+        }
+    }
+
+    private boolean claim(int candidate, long now) {
+        try {
+            jdbcTemplate.update("INSERT INTO order_id_node_lease (node_id, owner, expires_at) VALUES (?, ?, ?)",
+                    candidate, owner, now + ttl.toMillis());
+            return true;
+        } catch (DuplicateKeyException e) {
+            return jdbcTemplate.update("UPDATE order_id_node_lease SET owner = ?, expires_at = ? "
+                    + "WHERE node_id = ? AND expires_at < ?", owner, now + ttl.toMillis(), candidate, now) == 1;
+        }
+    }
+}
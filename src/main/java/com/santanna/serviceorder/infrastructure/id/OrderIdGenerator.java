@@ -0,0 +1,13 @@
+package com.santanna.serviceorder.infrastructure.id;
+
+import java.util.OptionalLong;
+
+public interface OrderIdGenerator {
+
+    long nextId();
+
+    // Instante (epoch ms) codificado no id, quando o gerador o codifica: permite limitar createdAt nas buscas por id
+    default OptionalLong createdAtOf(long id) {
+        return OptionalLong.empty();
+    }
+}
@@ -0,0 +1,44 @@
+package com.santanna.serviceorder.infrastructure.id;
+
+import com.santanna.serviceorder.application.utils.LoggerUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+
+@Configuration
+public class OrderIdGeneratorConfig {
+
+    // Com order.id.node-id explícito cada réplica precisa de um valor próprio; sem ele o nó é reservado no banco
+    @Bean
+    @ConditionalOnProperty(name = "order.id.generator", havingValue = "tsid", matchIfMissing = true)
+    public OrderIdGenerator tsidOrderIdGenerator(@Value("${order.id.node-id:-1}") int nodeId,
+                                                 ObjectProvider<NodeIdLease> nodeIdLease) {
+        return nodeId >= 0 ? new TsidOrderIdGenerator(nodeId) : new TsidOrderIdGenerator(nodeIdLease.getObject());
+    }
+
+    @Bean(destroyMethod = "release")
+    @ConditionalOnExpression("'${order.id.generator:tsid}' == 'tsid' and ${order.id.node-id:-1} < 0")
+    public NodeIdLease nodeIdLease(JdbcTemplate jdbcTemplate, LoggerUtils loggerUtils,
+                                   @Value("${order.id.lease-ttl-seconds:60}") long leaseTtlSeconds,
+                                   @Value("${order.id.lease-renew-interval-ms:10000}") long renewIntervalMs) {
+        var lease = new NodeIdLease(jdbcTemplate, Duration.ofSeconds(leaseTtlSeconds), loggerUtils);
+        lease.acquire();
+        lease.startRenewing(Duration.ofMillis(renewIntervalMs));
+        return lease;
+    }
+
+    @Bean(initMethod = "createSequenceTable")
+    @ConditionalOnProperty(name = "order.id.generator", havingValue = "pooled")
+    public OrderIdGenerator pooledSequenceOrderIdGenerator(JdbcTemplate jdbcTemplate,
+                                                           PlatformTransactionManager transactionManager,
+                                                           @Value("${order.id.pool-size:1000}") int poolSize) {
+        return new PooledSequenceOrderIdGenerator(jdbcTemplate, transactionManager, poolSize);
+    }
+}
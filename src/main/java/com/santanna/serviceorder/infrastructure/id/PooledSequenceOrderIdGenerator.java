@@ -0,0 +1,121 @@
+package com.santanna.serviceorder.infrastructure.id;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Reserva blocos de poolSize IDs na tabela order_id_sequence em uma transação própria e os entrega da memória.
+// A linha bloqueada com FOR UPDATE garante blocos distintos entre as réplicas.
+// nextId roda dentro da transação do pedido, que já segura uma conexão: o próximo bloco é reservado em uma thread
+// própria quando metade do atual foi usada, então quem cria pedidos não abre uma segunda conexão nem espera o
+// FOR UPDATE. O ReentrantLock (em vez de synchronized) não prende threads virtuais à thread portadora.
+public class PooledSequenceOrderIdGenerator implements OrderIdGenerator {
+
+    static final String SEQUENCE_NAME = "orders";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int poolSize;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ExecutorService reserver =
+            Executors.newSingleThreadExecutor(Thread.ofPlatform().name("order-id-block").daemon().factory());
+
+    private long next;
+    private long limit;
+    private CompletableFuture<Long> nextBlock;
+
+    public PooledSequenceOrderIdGenerator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                          int poolSize) {
+        if (poolSize <= 0) {
+            throw new IllegalArgumentException("Pool size must be greater than zero: " + poolSize);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.poolSize = poolSize;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public void createSequenceTable() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS order_id_sequence ("
+                + "sequence_name VARCHAR(64) NOT NULL PRIMARY KEY, next_val BIGINT NOT NULL)");
+        transactionTemplate.executeWithoutResult(status -> {
+            Integer rows = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM order_id_sequence WHERE sequence_name = ?", Integer.class, SEQUENCE_NAME);
+            if (rows == null || rows == 0) {
+                jdbcTemplate.update("INSERT INTO order_id_sequence (sequence_name, next_val) VALUES (?, 1)", SEQUENCE_NAME);
+            }
+        });
+
+        // O primeiro bloco já fica reservado antes do primeiro pedido
+        lock.lock();
+        try {
+            if (nextBlock == null && next >= limit) {
+                prefetch();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long nextId() {
+        lock.lock();
+        try {
+            if (next >= limit) {
+                // Só espera pela reserva na partida ou quando o consumo passou da reserva antecipada
+                next = awaitNextBlock();
+                limit = next + poolSize;
+            }
+            long id = next++;
+            if (nextBlock == null && limit - next <= poolSize / 2) {
+                prefetch();
+            }
+            return id;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void close() {
+        reserver.shutdownNow();
+    }
+
+    private void prefetch() {
+        nextBlock = CompletableFuture.supplyAsync(this::reserveBlock, reserver);
+    }
+
+    private long awaitNextBlock() {
+        if (nextBlock == null) {
+            prefetch();
+        }
+        try {
+            return nextBlock.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        } finally {
+            nextBlock = null;
+        }
+    }
+
+    private long reserveBlock() {
+        Long start = transactionTemplate.execute(status -> {
+            Long current = jdbcTemplate.queryForObject(
+                    "SELECT next_val FROM order_id_sequence WHERE sequence_name = ? FOR UPDATE", Long.class, SEQUENCE_NAME);
+            jdbcTemplate.update("UPDATE order_id_sequence SET next_val = ? WHERE sequence_name = ?",
+                    current + poolSize, SEQUENCE_NAME);
+            return current;
+        });
+        if (start == null) {
+            throw new IllegalStateException("Could not reserve a block of order ids");
+        }
+        return start;
+    }
+}
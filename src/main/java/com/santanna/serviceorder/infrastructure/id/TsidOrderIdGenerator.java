@@ -0,0 +1,82 @@
+package com.santanna.serviceorder.infrastructure.id;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLong;
+
+// IDs de 63 bits ordenados por tempo: 41 bits de milissegundos desde EPOCH, 10 bits de nó e 12 bits de sequência.
+// Cada nó gera até 4096 IDs por milissegundo sem coordenação; se o relógio voltar, a geração continua do último instante.
+public class TsidOrderIdGenerator implements OrderIdGenerator {
+
+    public static final long EPOCH = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    public static final int NODE_BITS = 10;
+    public static final int SEQUENCE_BITS = 12;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeBits;
+    private final Clock clock;
+    private final NodeIdLease lease;
+    // (timestamp << SEQUENCE_BITS) | sequence do último ID emitido
+    private final AtomicLong lastState = new AtomicLong();
+
+    public TsidOrderIdGenerator(int nodeId) {
+        this(nodeId, Clock.systemUTC());
+    }
+
+    // Node id reservado no banco: cada ID confere antes se a reserva ainda vale
+    public TsidOrderIdGenerator(NodeIdLease lease) {
+        this(lease.getNodeId(), Clock.systemUTC(), lease);
+    }
+
+    TsidOrderIdGenerator(int nodeId, Clock clock) {
+        this(nodeId, clock, null);
+    }
+
+    private TsidOrderIdGenerator(int nodeId, Clock clock, NodeIdLease lease) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node id must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.nodeBits = (long) nodeId << SEQUENCE_BITS;
+        this.clock = clock;
+        this.lease = lease;
+    }
+
+    @Override
+    public long nextId() {
+        if (lease != null) {
+            lease.checkHeld();
+        }
+        while (true) {
+            long last = lastState.get();
+            long lastTimestamp = last >>> SEQUENCE_BITS;
+            long now = clock.millis() - EPOCH;
+
+            long next;
+            if (now > lastTimestamp) {
+                next = now << SEQUENCE_BITS;
+            } else if ((last & SEQUENCE_MASK) < SEQUENCE_MASK) {
+                next = last + 1;
+            } else {
+                Thread.onSpinWait();
+                continue;
+            }
+
+            if (lastState.compareAndSet(last, next)) {
+                long timestamp = next >>> SEQUENCE_BITS;
+                return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | nodeBits | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    @Override
+    public OptionalLong createdAtOf(long id) {
+        return OptionalLong.of(timestampOf(id).toEpochMilli());
+    }
+
+    public static Instant timestampOf(long id) {
+        return Instant.ofEpochMilli((id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH);
+    }
+}
@@ -1,15 +1,29 @@
 package com.santanna.serviceorder.infrastructure.messaging;
 
+import org.springframework.amqp.core.AcknowledgeMode;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.DirectExchange;
 import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.Date;
+
 @Configuration
 public class RabbitMqConfig {
     public static final String ORDER_QUEUE = "orderQueue";
+    public static final String ORDER_DEAD_LETTER_EXCHANGE = "orderQueue.dlx";
+    public static final String ORDER_DEAD_LETTER_QUEUE = "orderQueue.dlq";
+    public static final String BATCH_CONTAINER_FACTORY = "batchListenerContainerFactory";
 
     @Bean
     public Jackson2JsonMessageConverter messageConverter() {
@@ -20,11 +34,57 @@ public class RabbitMqConfig {
     public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
         RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
         rabbitTemplate.setMessageConverter(messageConverter());
+        // Timestamp AMQP em toda publicação: os consumidores medem a latência da mensagem até o commit
+        rabbitTemplate.setBeforePublishPostProcessors(message -> {
+            message.getMessageProperties().setTimestamp(new Date());
+            return message;
+        });
         return rabbitTemplate;
     }
 
+    // Rejeições sem requeue (basicReject ou AmqpRejectAndDontRequeueException) seguem para orderQueue.dlq.
+    // Os argumentos fazem parte da declaração: uma orderQueue criada antes sem eles precisa ser recriada
+    // (ou receber uma policy de dead-letter) antes do deploy, senão o broker recusa a declaração.
     @Bean
     public Queue orderQueue() {
-        return new Queue(ORDER_QUEUE, true);
+        return QueueBuilder.durable(ORDER_QUEUE)
+                .deadLetterExchange(ORDER_DEAD_LETTER_EXCHANGE)
+                .deadLetterRoutingKey(ORDER_DEAD_LETTER_QUEUE)
+                .build();
+    }
+
+    @Bean
+    public DirectExchange orderDeadLetterExchange() {
+        return new DirectExchange(ORDER_DEAD_LETTER_EXCHANGE, true, false);
+    }
+
+    @Bean
+    public Queue orderDeadLetterQueue() {
+        return QueueBuilder.durable(ORDER_DEAD_LETTER_QUEUE).build();
+    }
+
+    @Bean
+    public Binding orderDeadLetterBinding() {
+        return BindingBuilder.bind(orderDeadLetterQueue()).to(orderDeadLetterExchange()).with(ORDER_DEAD_LETTER_QUEUE);
+    }
+
+    // Entrega ao listener lotes de até batchSize mensagens ou o que chegou em batchReceiveTimeout ms.
+    // O ack é manual para que o consumidor confirme o lote inteiro de uma vez após o commit.
+    @Bean(name = BATCH_CONTAINER_FACTORY)
+    @ConditionalOnProperty(name = "order.consumer.batch.enabled", havingValue = "true")
+    public SimpleRabbitListenerContainerFactory batchListenerContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory,
+            @Value("${order.consumer.batch.size:100}") int batchSize,
+            @Value("${order.consumer.batch.receive-timeout-ms:50}") long batchReceiveTimeoutMs) {
+        var factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setBatchReceiveTimeout(batchReceiveTimeoutMs);
+        factory.setPrefetchCount(batchSize);
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        return factory;
     }
 }
@@ -0,0 +1,9 @@
+package com.santanna.serviceorder.infrastructure.persistence;
+
+import com.santanna.serviceorder.domain.model.OrderStatus;
+
+// Colunas da listagem, preenchidas pela expressão de construtor das consultas JPQL. Não é uma entidade:
+// nada entra no contexto de persistência e não há snapshot para dirty checking.
+public record OrderRow(long id, String orderNumber, int productId, int quantity, long totalValue, String currency,
+                       OrderStatus orderStatus, long createdAt) {
+}
@@ -0,0 +1,9 @@
+package com.santanna.serviceorder.infrastructure.persistence;
+
+import com.santanna.serviceorder.infrastructure.entity.OrderNumberEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SpringDataOrderNumberRepository extends JpaRepository<OrderNumberEntity, String> {
+}
@@ -1,12 +1,53 @@
 package com.santanna.serviceorder.infrastructure.persistence;
 
 import com.santanna.serviceorder.infrastructure.entity.OrderEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface SpringDataOrderRepository extends JpaRepository<OrderEntity, Long> {
-    Optional<OrderEntity> findByOrderNumber(String orderNumber);
+    String SELECT_ROW = "select new com.santanna.serviceorder.infrastructure.persistence.OrderRow("
+            + "o.id, o.orderNumber, o.productId, o.quantity, o.totalValue, o.currency, o.orderStatus, o.createdAt) "
+            + "from OrderEntity o";
+
+    Optional<OrderEntity> findByIdAndCreatedAt(Long id, long createdAt);
+
+    Optional<OrderEntity> findByIdAndCreatedAtBetween(Long id, long from, long to);
+
+    // Listagem somente-leitura e sem fetch size: a página cabe em uma ida ao banco; o hint só vale nas leituras em stream
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(value = SELECT_ROW, countQuery = "select count(o) from OrderEntity o")
+    Page<OrderRow> findRows(Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(SELECT_ROW)
+    Slice<OrderRow> findRowSlice(Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(SELECT_ROW + " where o.id > :afterId order by o.id")
+    List<OrderRow> findRowsAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    @Query("select n.orderNumber from OrderNumberEntity n where n.orderNumber in :orderNumbers")
+    List<String> findOrderNumbersIn(@Param("orderNumbers") Collection<String> orderNumbers);
+
+    // Carga do filtro de números: percorre a tabela inteira em lotes em vez de materializar tudo
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select n.orderNumber from OrderNumberEntity n")
+    Stream<String> streamAllOrderNumbers();
 }
@@ -0,0 +1,86 @@
+package com.santanna.serviceorder.infrastructure.repository;
+
+import com.santanna.serviceorder.domain.common.ApproximateCount;
+import com.santanna.serviceorder.infrastructure.persistence.SpringDataOrderRepository;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Mantém o total de pedidos em memória: uma estimativa em segundo plano a cada intervalo e ajustes
+// a cada insert/delete confirmado por este nó. Escritas de outras réplicas aparecem na próxima contagem.
+// No MySQL a estimativa vem do EXPLAIN (estatísticas do InnoDB, sem percorrer a tabela particionada); onde o
+// EXPLAIN não traz linhas (H2) o COUNT(*) roda na réplica de leitura, nunca no primário.
+@Component
+public class OrderCountCache {
+
+    static final String ESTIMATE = "EXPLAIN SELECT id FROM orders";
+
+    private final SpringDataOrderRepository springDataOrderRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final AtomicLong total = new AtomicLong();
+    private volatile LocalDateTime countedAt;
+    private volatile boolean estimateUnavailable;
+
+    public OrderCountCache(SpringDataOrderRepository springDataOrderRepository, JdbcTemplate jdbcTemplate) {
+        this.springDataOrderRepository = springDataOrderRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Scheduled(fixedDelayString = "${order.count.refresh-interval-ms:300000}")
+    public void refresh() {
+        var now = LocalDateTime.now(ZoneOffset.UTC);
+        Long estimate = estimate();
+        // count() herda o @Transactional(readOnly = true) do SimpleJpaRepository e vai para a réplica
+        total.set(estimate != null ? estimate : springDataOrderRepository.count());
+        countedAt = now;
+    }
+
+    public ApproximateCount snapshot() {
+        if (countedAt == null) {
+            refresh();
+        }
+        return new ApproximateCount(Math.max(0, total.get()), countedAt);
+    }
+
+    public void add(long created) {
+        afterCommit(created);
+    }
+
+    public void remove() {
+        afterCommit(-1);
+    }
+
+    private Long estimate() {
+        if (estimateUnavailable) {
+            return null;
+        }
+        try {
+            return jdbcTemplate.query(ESTIMATE, rs -> rs.next() ? rs.getLong("rows") : null);
+        } catch (DataAccessException e) {
+            estimateUnavailable = true;
+            return null;
+        }
+    }
+
+    // Só conta o que foi confirmado: um insert ou delete desfeito por rollback não altera o total
+    private void afterCommit(long delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()
+                && TransactionSynchronizationManager.isActualTransactionActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    total.addAndGet(delta);
+                }
+            });
+        } else {
+            total.addAndGet(delta);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.santanna.serviceorder.infrastructure.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.santanna.serviceorder.application.utils.LoggerUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+// Nome do produto <-> id da tabela products, com as duas direções em cache limitado. Os produtos são poucos mil,
+// então depois da carga inicial inserts e leituras de pedidos resolvem o produto sem consultar o banco.
+// Produtos novos são gravados na conexão e na transação do pedido, sem pedir uma segunda conexão ao pool;
+// o id só entra no cache depois do commit, então um id no cache sempre existe na tabela.
+@Component
+public class ProductDictionary {
+    private static final String SELECT_ID = "SELECT id FROM products WHERE name = ?";
+    // Leitura com lock: enxerga a linha já confirmada por outra réplica mesmo com o snapshot da transação mais antigo
+    private static final String SELECT_ID_LOCKED = SELECT_ID + " FOR UPDATE";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LoggerUtils loggerUtils;
+    private final int maximumSize;
+    private final Cache<String, Integer> ids;
+    private final Cache<Integer, String> names;
+
+    public ProductDictionary(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry, LoggerUtils loggerUtils,
+                             @Value("${order.product.cache.maximum-size:10000}") int maximumSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.loggerUtils = loggerUtils;
+        this.maximumSize = maximumSize;
+        this.ids = Caffeine.newBuilder().maximumSize(maximumSize).recordStats().build();
+        this.names = Caffeine.newBuilder().maximumSize(maximumSize).recordStats().build();
+
+        if (meterRegistry != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, ids, "products.ids");
+            CaffeineCacheMetrics.monitor(meterRegistry, names, "products.names");
+        }
+    }
+
+    public int idFor(String name) {
+        Integer cached = ids.getIfPresent(name);
+        if (cached != null) {
+            return cached;
+        }
+        int id = resolveId(name);
+        putAfterCommit(id, name);
+        return id;
+    }
+
+    public String nameFor(int id) {
+        return names.get(id, this::loadName);
+    }
+
+    // Usado antes de mapear uma página: os ids fora do cache são buscados em uma única consulta
+    public void preload(Collection<Integer> productIds) {
+        if (!productIds.isEmpty()) {
+            names.getAll(productIds, this::loadNames);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            long started = System.nanoTime();
+            jdbcTemplate.query("SELECT id, name FROM products ORDER BY id LIMIT ?",
+                    (RowCallbackHandler) rs -> put(rs.getInt(1), rs.getString(2)),
+                    maximumSize);
+
+            loggerUtils.logInfo(ProductDictionary.class, "Product dictionary warmed with {} products in {} ms",
+                    names.estimatedSize(), (System.nanoTime() - started) / 1_000_000);
+        } catch (Exception e) {
+            loggerUtils.logWarn(ProductDictionary.class,
+                    "Product dictionary warmup failed, products are loaded on demand: {}", e.getMessage());
+        }
+    }
+
+    // Pacote: também usado pelos benchmarks em src/jmh para montar o dicionário sem banco
+    void put(int id, String name) {
+        ids.put(name, id);
+        names.put(id, name);
+    }
+
+    // Consulta antes de inserir para não consumir valores do auto-incremento a cada falta no cache.
+    // O INSERT IGNORE espera o commit de outra réplica que esteja inserindo o mesmo nome, e a leitura com
+    // lock devolve o id que ficou na tabela, seja o dela ou o desta transação.
+    private int resolveId(String name) {
+        var existing = jdbcTemplate.queryForList(SELECT_ID, Integer.class, name);
+        if (!existing.isEmpty()) {
+            return existing.get(0);
+        }
+        jdbcTemplate.update("INSERT IGNORE INTO products (name) VALUES (?)", name);
+        return jdbcTemplate.queryForObject(SELECT_ID_LOCKED, Integer.class, name);
+    }
+
+    // Com rollback do pedido o produto inserido por ele também sai da tabela, então o cache não o recebe
+    private void putAfterCommit(int id, String name) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()
+                && TransactionSynchronizationManager.isActualTransactionActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    put(id, name);
+                }
+            });
+        } else {
+            put(id, name);
+        }
+    }
+
+    private String loadName(Integer id) {
+        String name = jdbcTemplate.queryForObject("SELECT name FROM products WHERE id = ?", String.class, id);
+        ids.put(name, id);
+        return name;
+    }
+
+    private Map<Integer, String> loadNames(Set<? extends Integer> missing) {
+        Map<Integer, String> loaded = new HashMap<>();
+        String placeholders = String.join(",", Collections.nCopies(missing.size(), "?"));
+        jdbcTemplate.query("SELECT id, name FROM products WHERE id IN (" + placeholders + ")",
+                (RowCallbackHandler) rs -> {
+                    loaded.put(rs.getInt(1), rs.getString(2));
+                    ids.put(rs.getString(2), rs.getInt(1));
+                },
+                missing.toArray());
+        return loaded;
+    }
+}
@@ -0,0 +1,64 @@
+package com.santanna.serviceorder.infrastructure.repository;
+
+import com.santanna.serviceorder.domain.model.Money;
+import com.santanna.serviceorder.domain.model.Order;
+import com.santanna.serviceorder.domain.model.OrderStatus;
+import com.santanna.serviceorder.domain.repository.ReactiveOrderRepository;
+import com.santanna.serviceorder.infrastructure.exception.DatabaseException;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Mesmas consultas de leitura do OrderRepositoryImpl, executadas pelo driver R2DBC
+public class R2dbcOrderRepository implements ReactiveOrderRepository {
+
+    // O nome do produto vem do dicionário products pelo join
+    private static final String SELECT_ORDER = """
+            SELECT o.id, o.order_number, p.name AS product_name, o.quantity, o.total_value, o.currency,
+                   o.order_status, o.created_at
+            FROM orders o
+            JOIN products p ON p.id = o.product_id
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    public R2dbcOrderRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Mono<Order> findById(Long id) {
+        return databaseClient.sql(SELECT_ORDER + "WHERE o.id = :id")
+                .bind("id", id)
+                .map(R2dbcOrderRepository::toDomain)
+                .one()
+                .onErrorMap(e -> !(e instanceof DatabaseException),
+                        e -> new DatabaseException("Error finding order by ID: " + id, e));
+    }
+
+    @Override
+    public Flux<Order> findAfter(long afterId, int limit) {
+        return databaseClient.sql(SELECT_ORDER + "WHERE o.id > :afterId ORDER BY o.id LIMIT :limit")
+                .bind("afterId", afterId)
+                .bind("limit", limit)
+                .map(R2dbcOrderRepository::toDomain)
+                .all()
+                .onErrorMap(e -> !(e instanceof DatabaseException),
+                        e -> new DatabaseException("Error fetching orders after ID: " + afterId, e));
+    }
+
+    private static Order toDomain(Readable row) {
+        String status = row.get("order_status", String.class);
+        return new Order(
+                row.get("id", Long.class),
+                row.get("order_number", String.class),
+                row.get("product_name", String.class),
+                row.get("quantity", Integer.class),
+                row.get("total_value", Long.class),
+                Money.currency(row.get("currency", String.class)),
+                status != null ? OrderStatus.valueOf(status) : null,
+                row.get("created_at", Long.class)
+        );
+    }
+}
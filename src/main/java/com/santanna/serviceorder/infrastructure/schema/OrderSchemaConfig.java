@@ -0,0 +1,26 @@
+package com.santanna.serviceorder.infrastructure.schema;
+
+import com.santanna.serviceorder.application.utils.LoggerUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+
+// Desligado (order.schema.managed=false) onde o schema vem do ddl-auto, como no H2 do teste de carga
+@Configuration
+@ConditionalOnProperty(name = "order.schema.managed", havingValue = "true")
+public class OrderSchemaConfig {
+
+    @Bean(initMethod = "createSchema")
+    public OrderSchemaManager orderSchemaManager(JdbcTemplate jdbcTemplate, LoggerUtils loggerUtils,
+                                                 @Value("${order.schema.partitions.premake-months:3}") int premakeMonths,
+                                                 @Value("${order.schema.partitions.retention-months:12}") int retentionMonths,
+                                                 @Value("${order.schema.partitions.retention-action:drop}") String retentionAction,
+                                                 @Value("${order.schema.partitions.registry-delete-batch-size:10000}") int registryDeleteBatchSize) {
+        return new OrderSchemaManager(jdbcTemplate, loggerUtils, Clock.systemUTC(), premakeMonths, retentionMonths,
+                OrderSchemaManager.RetentionAction.valueOf(retentionAction.toUpperCase()), registryDeleteBatchSize);
+    }
+}
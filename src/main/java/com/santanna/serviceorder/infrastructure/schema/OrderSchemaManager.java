@@ -0,0 +1,290 @@
+package com.santanna.serviceorder.infrastructure.schema;
+
+import com.santanna.serviceorder.application.utils.LoggerUtils;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Clock;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+// Schema do MySQL mantido pelo serviço no lugar do ddl-auto. orders é particionada por mês em created_at
+// (pYYYYMM guarda as linhas anteriores ao primeiro dia do mês seguinte, p_future recebe o resto) e a manutenção
+// periódica cria as partições dos próximos meses e retira as que passaram da retenção, que saem inteiras
+// em vez de um DELETE de horas. Réplicas concorrentes se coordenam por GET_LOCK.
+public class OrderSchemaManager {
+    static final String FUTURE_PARTITION = "p_future";
+    private static final String LOCK_NAME = "order_partition_maintenance";
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'uuuuMM");
+
+    private static final String CREATE_PRODUCTS = """
+            CREATE TABLE IF NOT EXISTS products (
+                id INT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+                name VARCHAR(255) COLLATE utf8mb4_bin NOT NULL,
+                UNIQUE KEY idx_product_name (name)
+            )
+            """;
+    private static final String CREATE_ORDER_NUMBERS = """
+            CREATE TABLE IF NOT EXISTS order_numbers (
+                order_number VARCHAR(255) NOT NULL PRIMARY KEY,
+                order_id BIGINT NOT NULL,
+                created_at BIGINT NOT NULL,
+                KEY idx_order_numbers_created_at (created_at)
+            )
+            """;
+    private static final String CREATE_ORDERS = """
+            CREATE TABLE IF NOT EXISTS orders (
+                id BIGINT NOT NULL,
+                order_number VARCHAR(255),
+                product_id INT NOT NULL,
+                quantity INT NOT NULL,
+                total_value BIGINT NOT NULL,
+                currency VARCHAR(3),
+                order_status VARCHAR(32),
+                created_at BIGINT NOT NULL,
+                PRIMARY KEY (id, created_at),
+                KEY idx_order_status_created (order_status, created_at, id)
+            )
+            PARTITION BY RANGE (created_at) (
+            %s
+            )
+            """;
+
+    public enum RetentionAction {
+        // descarta a partição e as linhas dela
+        DROP,
+        // troca a partição por uma tabela vazia orders_archive_pYYYYMM, que fica com as linhas
+        DETACH
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LoggerUtils loggerUtils;
+    private final Clock clock;
+    private final int premakeMonths;
+    private final int retentionMonths;
+    private final RetentionAction retentionAction;
+    private final int registryDeleteBatchSize;
+
+    public OrderSchemaManager(JdbcTemplate jdbcTemplate, LoggerUtils loggerUtils, Clock clock, int premakeMonths,
+                              int retentionMonths, RetentionAction retentionAction, int registryDeleteBatchSize) {
+        if (premakeMonths < 1 || retentionMonths < 1) {
+            throw new IllegalArgumentException("Partition premake and retention must be at least one month");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.loggerUtils = loggerUtils;
+        this.clock = clock;
+        this.premakeMonths = premakeMonths;
+        this.retentionMonths = retentionMonths;
+        this.retentionAction = retentionAction;
+        this.registryDeleteBatchSize = registryDeleteBatchSize;
+    }
+
+    public void createSchema() {
+        jdbcTemplate.execute(CREATE_PRODUCTS);
+        jdbcTemplate.execute(CREATE_ORDER_NUMBERS);
+        jdbcTemplate.execute(createOrdersTable(YearMonth.now(clock), premakeMonths));
+        // CREATE TABLE IF NOT EXISTS mantém uma orders anterior ao particionamento como está: sem as partições
+        // a retenção nunca roda e a chave única de order_number continua na tabela, então a subida é interrompida
+        if (!partitionNames(jdbcTemplate, "orders").contains(FUTURE_PARTITION)) {
+            throw new IllegalStateException("Table orders exists but is not partitioned by month on created_at. "
+                    + "Rebuild it with primary key (id, created_at) and the partitions of OrderSchemaManager "
+                    + "(or rename it and let the service create a new one) before starting the service");
+        }
+        migrateIndexes();
+        maintainPartitions();
+    }
+
+    // Tabelas criadas por versões anteriores: a listagem por status precisa do índice composto,
+    // que torna o índice só de order_status redundante
+    private void migrateIndexes() {
+        if (!indexExists("orders", "idx_order_status_created")) {
+            jdbcTemplate.execute("ALTER TABLE orders ADD INDEX idx_order_status_created (order_status, created_at, id)");
+        }
+        if (indexExists("orders", "idx_order_status")) {
+            jdbcTemplate.execute("ALTER TABLE orders DROP INDEX idx_order_status");
+        }
+    }
+
+    private boolean indexExists(String table, String index) {
+        Integer count = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?
+                """, Integer.class, table, index);
+        return count != null && count > 0;
+    }
+
+    @Scheduled(fixedDelayString = "${order.schema.partitions.maintenance-interval-ms:3600000}",
+            initialDelayString = "${order.schema.partitions.maintenance-interval-ms:3600000}")
+    public void maintainPartitions() {
+        try {
+            // Lock, consultas e DDL na mesma conexão: GET_LOCK pertence à sessão
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                var session = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+                Integer locked = session.queryForObject("SELECT GET_LOCK(?, 0)", Integer.class, LOCK_NAME);
+                if (locked == null || locked != 1) {
+                    return null;
+                }
+                try {
+                    maintainPartitions(session);
+                } finally {
+                    session.queryForObject("SELECT RELEASE_LOCK(?)", Integer.class, LOCK_NAME);
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            loggerUtils.logWarn(OrderSchemaManager.class, "Order partition maintenance failed: {}", e.getMessage());
+        }
+    }
+
+    void maintainPartitions(JdbcTemplate session) {
+        List<String> names = partitionNames(session, "orders");
+        if (!names.contains(FUTURE_PARTITION)) {
+            loggerUtils.logWarn(OrderSchemaManager.class,
+                    "Table orders is not partitioned by month, skipping partition maintenance");
+            return;
+        }
+
+        NavigableSet<YearMonth> existing = monthsOf(names);
+        YearMonth current = YearMonth.now(clock);
+
+        List<YearMonth> missing = missing(existing, current, premakeMonths);
+        if (!missing.isEmpty()) {
+            session.execute("ALTER TABLE orders REORGANIZE PARTITION " + FUTURE_PARTITION + " INTO ("
+                    + partitions(missing) + ",\n" + futurePartition() + ")");
+            loggerUtils.logInfo(OrderSchemaManager.class, "Created order partitions {}", namesOf(missing));
+        }
+
+        List<YearMonth> expired = expired(existing, current, retentionMonths);
+        for (YearMonth month : expired) {
+            String partition = name(month);
+            if (retentionAction == RetentionAction.DETACH && !detach(session, partition)) {
+                continue;
+            }
+            session.execute("ALTER TABLE orders DROP PARTITION " + partition);
+        }
+        if (!expired.isEmpty()) {
+            loggerUtils.logInfo(OrderSchemaManager.class, "Retired order partitions {} ({})",
+                    namesOf(expired), retentionAction);
+        }
+
+        // O registro de números não é particionado: as linhas dos meses retirados saem em lotes pelo índice de created_at
+        long cutoff = upperBound(current.minusMonths(retentionMonths + 1L));
+        int deleted;
+        do {
+            deleted = session.update("DELETE FROM order_numbers WHERE created_at < ? LIMIT ?",
+                    cutoff, registryDeleteBatchSize);
+        } while (deleted >= registryDeleteBatchSize);
+    }
+
+    // Retomável: uma execução interrompida pode ter deixado a tabela de arquivo criada, ou já trocada com a partição.
+    // A troca só acontece com o arquivo vazio; arquivo e partição com linhas ao mesmo tempo ficam para análise manual.
+    private boolean detach(JdbcTemplate session, String partition) {
+        String archive = "orders_archive_" + partition;
+        if (!tableExists(session, archive)) {
+            session.execute("CREATE TABLE " + archive + " LIKE orders");
+        }
+        if (!partitionNames(session, archive).isEmpty()) {
+            session.execute("ALTER TABLE " + archive + " REMOVE PARTITIONING");
+        }
+
+        boolean archived = hasRows(session, "SELECT 1 FROM " + archive + " LIMIT 1");
+        boolean pending = hasRows(session, "SELECT 1 FROM orders PARTITION (" + partition + ") LIMIT 1");
+        if (archived && pending) {
+            loggerUtils.logWarn(OrderSchemaManager.class,
+                    "Partition {} and table {} both have rows, keeping the partition", partition, archive);
+            return false;
+        }
+        if (!archived) {
+            session.execute("ALTER TABLE orders EXCHANGE PARTITION " + partition + " WITH TABLE " + archive);
+        }
+        return true;
+    }
+
+    private static List<String> partitionNames(JdbcTemplate session, String table) {
+        return session.queryForList("""
+                SELECT partition_name FROM information_schema.partitions
+                WHERE table_schema = DATABASE() AND table_name = ? AND partition_name IS NOT NULL
+                """, String.class, table);
+    }
+
+    private static boolean tableExists(JdbcTemplate session, String table) {
+        Integer count = session.queryForObject("""
+                SELECT COUNT(*) FROM information_schema.tables
+                WHERE table_schema = DATABASE() AND table_name = ?
+                """, Integer.class, table);
+        return count != null && count > 0;
+    }
+
+    private static boolean hasRows(JdbcTemplate session, String query) {
+        return !session.queryForList(query, Integer.class).isEmpty();
+    }
+
+    // A primeira partição é a do mês anterior e guarda tudo o que é anterior ao mês corrente
+    static String createOrdersTable(YearMonth current, int premakeMonths) {
+        List<YearMonth> months = new ArrayList<>();
+        for (YearMonth month = current.minusMonths(1); !month.isAfter(current.plusMonths(premakeMonths)); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+        return CREATE_ORDERS.formatted(partitions(months) + ",\n" + futurePartition());
+    }
+
+    // Novos meses só podem entrar acima da maior partição existente, dividindo p_future
+    static List<YearMonth> missing(NavigableSet<YearMonth> existing, YearMonth current, int premakeMonths) {
+        YearMonth last = current.plusMonths(premakeMonths);
+        YearMonth next = existing.isEmpty() ? current : existing.last().plusMonths(1);
+        List<YearMonth> missing = new ArrayList<>();
+        for (YearMonth month = next; !month.isAfter(last); month = month.plusMonths(1)) {
+            missing.add(month);
+        }
+        return missing;
+    }
+
+    // Mantém o mês corrente e os retentionMonths meses completos anteriores a ele
+    static List<YearMonth> expired(NavigableSet<YearMonth> existing, YearMonth current, int retentionMonths) {
+        return new ArrayList<>(existing.headSet(current.minusMonths(retentionMonths), false));
+    }
+
+    static String name(YearMonth month) {
+        return PARTITION_NAME.format(month);
+    }
+
+    // Epoch em milissegundos (UTC) do primeiro dia do mês seguinte, o mesmo formato de created_at
+    static long upperBound(YearMonth month) {
+        return month.plusMonths(1).atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    static NavigableSet<YearMonth> monthsOf(List<String> partitionNames) {
+        NavigableSet<YearMonth> months = new TreeSet<>();
+        for (String partitionName : partitionNames) {
+            try {
+                months.add(YearMonth.parse(partitionName, PARTITION_NAME));
+            } catch (DateTimeParseException e) {
+                // p_future e partições que não seguem o padrão mensal
+            }
+        }
+        return months;
+    }
+
+    private static String partitions(List<YearMonth> months) {
+        return months.stream()
+                .map(month -> "PARTITION " + name(month) + " VALUES LESS THAN (" + upperBound(month) + ")")
+                .collect(Collectors.joining(",\n"));
+    }
+
+    private static String futurePartition() {
+        return "PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN MAXVALUE";
+    }
+
+    private static String namesOf(List<YearMonth> months) {
+        return months.stream().map(OrderSchemaManager::name).collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,125 @@
+package com.santanna.serviceorder.interfaces.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.santanna.serviceorder.application.dto.OrderBatchResultDto;
+import com.santanna.serviceorder.application.dto.OrderRequestDto;
+import com.santanna.serviceorder.application.usecase.CreateOrderBatchUseCase;
+import com.santanna.serviceorder.application.usecase.CreateOrdersOneByOneUseCase;
+import com.santanna.serviceorder.application.utils.LoggerUtils;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+@Tag(name = "Order Controller", description = "Gerenciamento de pedidos")
+@RestController
+@RequestMapping("/orders")
+public class OrderBulkController {
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    private final CreateOrderBatchUseCase createOrderBatchUseCase;
+    private final CreateOrdersOneByOneUseCase createOrdersOneByOneUseCase;
+    private final ObjectMapper objectMapper;
+    private final LoggerUtils loggerUtils;
+    private final int chunkSize;
+
+    public OrderBulkController(CreateOrderBatchUseCase createOrderBatchUseCase,
+                               CreateOrdersOneByOneUseCase createOrdersOneByOneUseCase, ObjectMapper objectMapper,
+                               LoggerUtils loggerUtils, @Value("${order.bulk.chunk-size:500}") int chunkSize) {
+        this.createOrderBatchUseCase = createOrderBatchUseCase;
+        this.createOrdersOneByOneUseCase = createOrdersOneByOneUseCase;
+        this.objectMapper = objectMapper;
+        this.loggerUtils = loggerUtils;
+        this.chunkSize = chunkSize;
+    }
+
+    // O corpo é lido registro a registro e gravado em transações de chunkSize pedidos; cada resultado
+    // é escrito na resposta assim que o seu chunk termina, então o uso de memória não depende do tamanho do upload.
+    @Operation(summary = "Cria pedidos em lote a partir de NDJSON ou de um array JSON", responses = {
+            @ApiResponse(responseCode = "200", description = "Uma linha NDJSON por registro com o status CREATED, DUPLICATE, INVALID ou FAILED")
+    })
+    @PostMapping(value = "/batch", consumes = {APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE},
+            produces = APPLICATION_NDJSON_VALUE)
+    public void createOrders(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        loggerUtils.logInfo(OrderBulkController.class, "Receiving bulk order upload");
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(APPLICATION_NDJSON_VALUE);
+        OutputStream out = response.getOutputStream();
+        ObjectWriter writer = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        long received = 0;
+        List<OrderRequestDto> chunk = new ArrayList<>(chunkSize);
+        try (MappingIterator<OrderRequestDto> records = objectMapper.readerFor(OrderRequestDto.class)
+                .readValues(request.getInputStream())) {
+            while (records.hasNextValue()) {
+                received++;
+                try {
+                    chunk.add(records.nextValue());
+                } catch (JsonParseException e) {
+                    flush(chunk, writer, out);
+                    write(OrderBatchResultDto.invalid(null, "Malformed JSON: " + e.getOriginalMessage()), writer, out);
+                    break;
+                } catch (JsonMappingException e) {
+                    flush(chunk, writer, out);
+                    write(OrderBatchResultDto.invalid(null, "Invalid record: " + e.getOriginalMessage()), writer, out);
+                    continue;
+                }
+                if (chunk.size() >= chunkSize) {
+                    flush(chunk, writer, out);
+                }
+            }
+        } catch (JsonParseException e) {
+            flush(chunk, writer, out);
+            write(OrderBatchResultDto.invalid(null, "Malformed JSON: " + e.getOriginalMessage()), writer, out);
+        }
+        flush(chunk, writer, out);
+
+        loggerUtils.logInfo(OrderBulkController.class, "Bulk order upload finished. Records: {}", received);
+    }
+
+    private void flush(List<OrderRequestDto> chunk, ObjectWriter writer, OutputStream out) throws IOException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        List<OrderBatchResultDto> results;
+        try {
+            results = createOrderBatchUseCase.execute(chunk);
+        } catch (Exception e) {
+            // Como no consumidor em lote: um número gravado ao mesmo tempo por outra requisição derruba o chunk
+            // inteiro; um a um, só esse registro sai como DUPLICATE ou FAILED.
+            loggerUtils.logWarn(OrderBulkController.class, "Bulk chunk of {} orders failed, retrying one by one: {}",
+                    chunk.size(), e.getMessage());
+            results = createOrdersOneByOneUseCase.execute(chunk);
+        }
+
+        for (OrderBatchResultDto result : results) {
+            write(result, writer, out);
+        }
+        out.flush();
+        chunk.clear();
+    }
+
+    private void write(OrderBatchResultDto result, ObjectWriter writer, OutputStream out) throws IOException {
+        writer.writeValue(out, result);
+        out.write('\n');
+    }
+}
@@ -7,7 +7,9 @@ import com.santanna.serviceorder.application.usecase.DeleteOrderUseCase;
 import com.santanna.serviceorder.application.usecase.GetOrderUseCase;
 import com.santanna.serviceorder.application.usecase.UpdateOrderUseCase;
 import com.santanna.serviceorder.application.utils.LoggerUtils;
+import com.santanna.serviceorder.domain.common.CursorPage;
 import com.santanna.serviceorder.domain.common.PaginatedResult;
+import com.santanna.serviceorder.domain.common.SliceResult;
 import com.santanna.serviceorder.domain.model.OrderStatus;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -17,6 +19,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Set;
+
 @Tag(name = "Order Controller", description = "Gerenciamento de pedidos")
 @RestController
 @RequestMapping("/orders")
@@ -43,7 +47,7 @@ public class OrderController {
     })
     @PostMapping
     public ResponseEntity<OrderResponseDto> createOrder(@Valid @RequestBody OrderRequestDto orderRequestDto) {
-        loggerUtils.logInfo(OrderController.class, "Receiving request to create order: {}", orderRequestDto.orderNumber());
+        loggerUtils.logDebug(OrderController.class, "Receiving request to create order: {}", orderRequestDto.orderNumber());
         OrderResponseDto createdOrder = createOrderUseCase.execute(orderRequestDto);
         return ResponseEntity.status(HttpStatus.CREATED).body(createdOrder);
     }
@@ -55,7 +59,7 @@ public class OrderController {
     })
     @PatchMapping("/{id}/status")
     public ResponseEntity<Void> updateOrderStatus(@PathVariable Long id, @RequestParam OrderStatus newStatus) {
-        loggerUtils.logInfo(OrderController.class, "Order with ID {} not found", id);
+        loggerUtils.logDebug(OrderController.class, "Receiving request to update order status. ID: {}", id);
         updateOrderStatusUseCase.execute(id, newStatus);
         return ResponseEntity.ok().build();
     }
@@ -66,9 +70,49 @@ public class OrderController {
     })
     @GetMapping
     public ResponseEntity<PaginatedResult<OrderResponseDto>> getOrders(@RequestParam(defaultValue = "0") int page,
-                                                                       @RequestParam(defaultValue = "10") int size) {
+                                                                       @RequestParam(defaultValue = "10") int size,
+                                                                       @RequestParam(defaultValue = "false") boolean approximateTotal) {
         loggerUtils.logInfo(OrderController.class, "Listing orders - Page: {}, Size: {}", page, size);
-        PaginatedResult<OrderResponseDto> orders = getOrderUseCase.getAllOrders(page, size);
+        PaginatedResult<OrderResponseDto> orders = approximateTotal
+                ? getOrderUseCase.getAllOrdersWithApproximateTotal(page, size)
+                : getOrderUseCase.getAllOrders(page, size);
+        return ResponseEntity.ok(orders);
+    }
+
+
+    @Operation(summary = "Lista pedidos sem contagem total", description = "Retorna apenas hasNext, sem executar COUNT(*)", responses = {
+            @ApiResponse(responseCode = "200", description = "Página de pedidos retornada com sucesso")
+    })
+    @GetMapping(params = "slice=true")
+    public ResponseEntity<SliceResult<OrderResponseDto>> getOrdersSlice(@RequestParam(defaultValue = "0") int page,
+                                                                        @RequestParam(defaultValue = "10") int size) {
+        loggerUtils.logInfo(OrderController.class, "Listing orders slice - Page: {}, Size: {}", page, size);
+        SliceResult<OrderResponseDto> orders = getOrderUseCase.getOrdersSlice(page, size);
+        return ResponseEntity.ok(orders);
+    }
+
+
+    @Operation(summary = "Lista pedidos por cursor", description = "Paginação por chave: envie after vazio na primeira página e o nextCursor retornado nas seguintes", responses = {
+            @ApiResponse(responseCode = "200", description = "Página de pedidos retornada com sucesso")
+    })
+    @GetMapping(params = {"after", "!status"})
+    public ResponseEntity<CursorPage<OrderResponseDto>> getOrdersByCursor(@RequestParam String after,
+                                                                          @RequestParam(defaultValue = "10") int size) {
+        loggerUtils.logInfo(OrderController.class, "Listing orders by cursor - Size: {}", size);
+        CursorPage<OrderResponseDto> orders = getOrderUseCase.getOrdersAfter(after, size);
+        return ResponseEntity.ok(orders);
+    }
+
+
+    @Operation(summary = "Lista pedidos por status", description = "Um ou mais status (status=RECEIVED&status=PROCESSED), do mais recente para o mais antigo; envie o nextCursor retornado em after para a próxima página", responses = {
+            @ApiResponse(responseCode = "200", description = "Página de pedidos retornada com sucesso")
+    })
+    @GetMapping(params = "status")
+    public ResponseEntity<CursorPage<OrderResponseDto>> getOrdersByStatus(@RequestParam Set<OrderStatus> status,
+                                                                          @RequestParam(defaultValue = "") String after,
+                                                                          @RequestParam(defaultValue = "10") int size) {
+        loggerUtils.logInfo(OrderController.class, "Listing orders by status - Statuses: {}, Size: {}", status, size);
+        CursorPage<OrderResponseDto> orders = getOrderUseCase.getOrdersByStatus(status, after, size);
         return ResponseEntity.ok(orders);
     }
 
@@ -79,11 +123,11 @@ public class OrderController {
     @GetMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
     public ResponseEntity<OrderResponseDto> getOrderById(@PathVariable Long id) {
-        loggerUtils.logInfo(OrderController.class, "Received request to fetch order by ID: {}", id);
+        loggerUtils.logDebug(OrderController.class, "Received request to fetch order by ID: {}", id);
 
         OrderResponseDto order = getOrderUseCase.getById(id);
 
-        loggerUtils.logInfo(OrderController.class, "Order retrieved successfully. ID: {}", id);
+        loggerUtils.logInfoSampled(OrderController.class, "Order retrieved successfully. ID: {}", id);
         return ResponseEntity.ok(order);
     }
 
@@ -93,7 +137,7 @@ public class OrderController {
     })
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteOrder(@PathVariable Long id) {
-        loggerUtils.logInfo(OrderController.class, "Order with ID {} not found", id);
+        loggerUtils.logDebug(OrderController.class, "Receiving request to delete order. ID: {}", id);
         deleteOrderUseCase.execute(id);
         return ResponseEntity.noContent().build();
     }
@@ -0,0 +1,138 @@
+package com.santanna.serviceorder.interfaces.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.santanna.serviceorder.application.dto.OrderResponseDto;
+import com.santanna.serviceorder.application.usecase.ExportOrdersUseCase;
+import com.santanna.serviceorder.application.usecase.exception.BusinessException;
+import com.santanna.serviceorder.application.utils.LoggerUtils;
+import com.santanna.serviceorder.domain.model.OrderStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPOutputStream;
+
+@Tag(name = "Order Controller", description = "Gerenciamento de pedidos")
+@RestController
+@RequestMapping("/orders")
+public class OrderExportController {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String CSV_HEADER = "id,orderNumber,productName,quantity,totalValue,currency,status,createdAt\n";
+
+    private final ExportOrdersUseCase exportOrdersUseCase;
+    private final ObjectWriter ndjsonWriter;
+    private final ObjectMapper objectMapper;
+    private final LoggerUtils loggerUtils;
+
+    public OrderExportController(ExportOrdersUseCase exportOrdersUseCase, ObjectMapper objectMapper,
+                                 LoggerUtils loggerUtils) {
+        this.exportOrdersUseCase = exportOrdersUseCase;
+        this.objectMapper = objectMapper;
+        this.ndjsonWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.loggerUtils = loggerUtils;
+    }
+
+    @Operation(summary = "Exporta pedidos em NDJSON ou CSV", description = "Transmite todos os pedidos do filtro direto na resposta, com gzip quando o cliente aceitar", responses = {
+            @ApiResponse(responseCode = "200", description = "Exportação transmitida com sucesso")
+    })
+    @GetMapping("/export")
+    public void exportOrders(@RequestParam(required = false) OrderStatus status,
+                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                             @RequestParam(defaultValue = "ndjson") String format,
+                             @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                             HttpServletResponse response) throws IOException {
+        loggerUtils.logInfo(OrderExportController.class, "Receiving export request - Format: {}", format);
+        boolean csv = switch (format.toLowerCase()) {
+            case "csv" -> true;
+            case "ndjson" -> false;
+            default -> throw new BusinessException("Unsupported export format: " + format);
+        };
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(csv ? "text/csv" : OrderBulkController.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        OutputStream out = response.getOutputStream();
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            out = new GZIPOutputStream(out, BUFFER_SIZE);
+        }
+
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE)) {
+            if (csv) {
+                writer.write(CSV_HEADER);
+                exportOrdersUseCase.execute(status, from, to, order -> writeCsv(order, writer));
+            } else {
+                JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+                exportOrdersUseCase.execute(status, from, to, order -> writeJson(order, generator));
+                generator.close();
+            }
+        }
+    }
+
+    private void writeJson(OrderResponseDto order, JsonGenerator generator) {
+        try {
+            ndjsonWriter.writeValue(generator, order);
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeCsv(OrderResponseDto order, Writer writer) {
+        try {
+            writer.write(String.valueOf(order.id()));
+            writer.write(',');
+            writer.write(csvField(order.orderNumber()));
+            writer.write(',');
+            writer.write(csvField(order.productName()));
+            writer.write(',');
+            writer.write(String.valueOf(order.quantity()));
+            writer.write(',');
+            writer.write(order.totalValue() == null ? "" : order.totalValue().toPlainString());
+            writer.write(',');
+            writer.write(order.currency() == null ? "" : order.currency());
+            writer.write(',');
+            writer.write(order.status() == null ? "" : order.status().name());
+            writer.write(',');
+            writer.write(order.createdAt() == null ? "" : order.createdAt().toString());
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
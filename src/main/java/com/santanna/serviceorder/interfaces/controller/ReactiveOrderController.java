@@ -0,0 +1,53 @@
+package com.santanna.serviceorder.interfaces.controller;
+
+import com.santanna.serviceorder.application.dto.OrderResponseDto;
+import com.santanna.serviceorder.application.usecase.ReactiveGetOrderUseCase;
+import com.santanna.serviceorder.application.utils.LoggerUtils;
+import com.santanna.serviceorder.domain.common.CursorPage;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+// Leituras assíncronas: a thread do Tomcat é liberada enquanto o banco (R2DBC) e o Redis respondem, então
+// conexões keep-alive ociosas ou aguardando I/O não ocupam threads. Ativo com o profile "reactive".
+@Tag(name = "Reactive Order Controller", description = "Leitura não bloqueante de pedidos")
+@RestController
+@RequestMapping("/reactive/orders")
+@ConditionalOnProperty(name = "order.read.reactive.enabled", havingValue = "true")
+public class ReactiveOrderController {
+    private final ReactiveGetOrderUseCase reactiveGetOrderUseCase;
+    private final LoggerUtils loggerUtils;
+
+    public ReactiveOrderController(ReactiveGetOrderUseCase reactiveGetOrderUseCase, LoggerUtils loggerUtils) {
+        this.reactiveGetOrderUseCase = reactiveGetOrderUseCase;
+        this.loggerUtils = loggerUtils;
+    }
+
+    @Operation(summary = "Buscar um pedido por ID sem bloquear threads", responses = {
+            @ApiResponse(responseCode = "200", description = "Pedido encontrado"),
+            @ApiResponse(responseCode = "404", description = "Pedido não encontrado")
+    })
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<OrderResponseDto>> getOrderById(@PathVariable Long id) {
+        loggerUtils.logDebug(ReactiveOrderController.class, "Received reactive request to fetch order by ID: {}", id);
+        return reactiveGetOrderUseCase.getById(id).map(ResponseEntity::ok);
+    }
+
+    @Operation(summary = "Lista pedidos por cursor sem bloquear threads", description = "Paginação por chave: envie after vazio na primeira página e o nextCursor retornado nas seguintes", responses = {
+            @ApiResponse(responseCode = "200", description = "Página de pedidos retornada com sucesso")
+    })
+    @GetMapping
+    public Mono<ResponseEntity<CursorPage<OrderResponseDto>>> getOrdersByCursor(@RequestParam(defaultValue = "") String after,
+                                                                                @RequestParam(defaultValue = "10") int size) {
+        loggerUtils.logInfo(ReactiveOrderController.class, "Listing orders by cursor (reactive) - Size: {}", size);
+        return reactiveGetOrderUseCase.getOrdersAfter(after, size).map(ResponseEntity::ok);
+    }
+}
@@ -0,0 +1,100 @@
+package com.santanna.serviceorder.interfaces.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rabbitmq.client.Channel;
+import com.santanna.serviceorder.application.dto.OrderBatchResultDto;
+import com.santanna.serviceorder.application.dto.OrderBatchStatus;
+import com.santanna.serviceorder.application.dto.OrderRequestDto;
+import com.santanna.serviceorder.application.usecase.CreateOrderBatchUseCase;
+import com.santanna.serviceorder.application.usecase.CreateOrdersOneByOneUseCase;
+import com.santanna.serviceorder.application.utils.LoggerUtils;
+import com.santanna.serviceorder.application.utils.OrderMetrics;
+import com.santanna.serviceorder.infrastructure.messaging.RabbitMqConfig;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+// Mensagens rejeitadas (ilegíveis, inválidas, duplicadas ou com falha) vão para a fila orderQueue.dlq pelo
+// dead-letter exchange da fila de pedidos, nunca são descartadas.
+@Component
+@ConditionalOnProperty(name = "order.consumer.batch.enabled", havingValue = "true")
+public class OrderBatchMessageConsumer {
+    private final CreateOrderBatchUseCase createOrderBatchUseCase;
+    private final CreateOrdersOneByOneUseCase createOrdersOneByOneUseCase;
+    private final ObjectMapper objectMapper;
+    private final LoggerUtils loggerUtils;
+    private final OrderMetrics orderMetrics;
+
+    public OrderBatchMessageConsumer(CreateOrderBatchUseCase createOrderBatchUseCase,
+                                     CreateOrdersOneByOneUseCase createOrdersOneByOneUseCase, ObjectMapper objectMapper,
+                                     LoggerUtils loggerUtils, OrderMetrics orderMetrics) {
+        this.createOrderBatchUseCase = createOrderBatchUseCase;
+        this.createOrdersOneByOneUseCase = createOrdersOneByOneUseCase;
+        this.objectMapper = objectMapper;
+        this.loggerUtils = loggerUtils;
+        this.orderMetrics = orderMetrics;
+    }
+
+    @Timed(value = "order.message.processing", histogram = true)
+    @RabbitListener(queues = RabbitMqConfig.ORDER_QUEUE, containerFactory = RabbitMqConfig.BATCH_CONTAINER_FACTORY)
+    public void receiveOrders(List<Message> messages, Channel channel) throws IOException {
+        loggerUtils.logInfo(OrderBatchMessageConsumer.class, "Received batch of {} order messages from queue", messages.size());
+
+        List<OrderRequestDto> requests = new ArrayList<>(messages.size());
+        List<Long> deliveryTags = new ArrayList<>(messages.size());
+        List<Date> publishedAt = new ArrayList<>(messages.size());
+        for (Message message : messages) {
+            long deliveryTag = message.getMessageProperties().getDeliveryTag();
+            try {
+                requests.add(objectMapper.readValue(message.getBody(), OrderRequestDto.class));
+                deliveryTags.add(deliveryTag);
+                publishedAt.add(message.getMessageProperties().getTimestamp());
+            } catch (IOException e) {
+                orderMetrics.recordMessage(OrderMetrics.BATCH, OrderBatchStatus.INVALID);
+                loggerUtils.logWarn(OrderBatchMessageConsumer.class, "Unreadable order message rejected: {}", e.getMessage());
+                channel.basicReject(deliveryTag, false);
+            }
+        }
+
+        if (requests.isEmpty()) {
+            return;
+        }
+
+        List<OrderBatchResultDto> results;
+        try {
+            results = createOrderBatchUseCase.execute(requests);
+        } catch (Exception e) {
+            // Um número gravado ao mesmo tempo pelo REST ou por outro consumidor derruba o lote inteiro na chave de
+            // order_numbers; um a um, o createIfAbsent separa esse registro e os demais pedidos são criados.
+            loggerUtils.logWarn(OrderBatchMessageConsumer.class, "Order batch failed, retrying {} messages one by one: {}",
+                    requests.size(), e.getMessage());
+            results = createOrdersOneByOneUseCase.execute(requests);
+        }
+
+        // Rejeita individualmente os registros recusados e confirma o restante do lote com um único multi-ack.
+        long lastCreatedTag = -1;
+        for (int i = 0; i < results.size(); i++) {
+            var result = results.get(i);
+            long deliveryTag = deliveryTags.get(i);
+            orderMetrics.recordMessage(OrderMetrics.BATCH, result.status());
+            if (result.status() == OrderBatchStatus.CREATED) {
+                lastCreatedTag = Math.max(lastCreatedTag, deliveryTag);
+                orderMetrics.recordMessageToCommit(publishedAt.get(i));
+            } else {
+                loggerUtils.logWarn(OrderBatchMessageConsumer.class, "Order number {} rejected: {}", result.orderNumber(), result.message());
+                channel.basicReject(deliveryTag, false);
+            }
+        }
+
+        if (lastCreatedTag >= 0) {
+            channel.basicAck(lastCreatedTag, true);
+        }
+    }
+}
@@ -1,35 +1,50 @@
 package com.santanna.serviceorder.interfaces.messaging;
 
+import com.santanna.serviceorder.application.dto.OrderBatchStatus;
 import com.santanna.serviceorder.application.dto.OrderRequestDto;
 import com.santanna.serviceorder.application.usecase.CreateOrderUseCase;
+import com.santanna.serviceorder.application.usecase.exception.BusinessException;
 import com.santanna.serviceorder.application.utils.LoggerUtils;
+import com.santanna.serviceorder.application.utils.OrderMetrics;
+import com.santanna.serviceorder.domain.exception.DomainException;
 import com.santanna.serviceorder.infrastructure.messaging.RabbitMqConfig;
 import com.santanna.serviceorder.interfaces.exception.MessageValidationException;
+import io.micrometer.core.annotation.Timed;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
 import org.springframework.amqp.AmqpRejectAndDontRequeueException;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
+import java.util.Date;
 import java.util.Set;
 
 @Component
+@ConditionalOnProperty(name = "order.consumer.batch.enabled", havingValue = "false", matchIfMissing = true)
 public class OrderMessageConsumer {
     private final CreateOrderUseCase orderService;
     private final Validator validator;
     private final LoggerUtils loggerUtils;
+    private final OrderMetrics orderMetrics;
 
-    public OrderMessageConsumer(CreateOrderUseCase orderService, Validator validator, LoggerUtils loggerUtils) {
+    public OrderMessageConsumer(CreateOrderUseCase orderService, Validator validator, LoggerUtils loggerUtils,
+                                OrderMetrics orderMetrics) {
         this.orderService = orderService;
         this.validator = validator;
         this.loggerUtils = loggerUtils;
+        this.orderMetrics = orderMetrics;
     }
 
+    @Timed(value = "order.message.processing", histogram = true)
     @RabbitListener(queues = RabbitMqConfig.ORDER_QUEUE, concurrency = "3-10")
-    public void receiveOrder(@Payload OrderRequestDto orderRequestDto) {
+    public void receiveOrder(@Payload OrderRequestDto orderRequestDto,
+                             @Header(name = AmqpHeaders.TIMESTAMP, required = false) Date publishedAt) {
         try {
-            loggerUtils.logInfo(OrderMessageConsumer.class, "Received new order message from queue. Order number: {}", orderRequestDto.orderNumber());
+            loggerUtils.logDebug(OrderMessageConsumer.class, "Received new order message from queue. Order number: {}", orderRequestDto.orderNumber());
 
             Set<ConstraintViolation<OrderRequestDto>> violations = validator.validate(orderRequestDto);
 
@@ -44,11 +59,25 @@ public class OrderMessageConsumer {
             }
 
             orderService.execute(orderRequestDto);
-            loggerUtils.logInfo(OrderMessageConsumer.class, "Order successfully processed. Order number: {}", orderRequestDto.orderNumber());
+            orderMetrics.recordMessage(OrderMetrics.SINGLE, OrderBatchStatus.CREATED);
+            orderMetrics.recordMessageToCommit(publishedAt);
+            loggerUtils.logInfoSampled(OrderMessageConsumer.class, "Order successfully processed. Order number: {}", orderRequestDto.orderNumber());
 
         } catch (Exception e) {
+            orderMetrics.recordMessage(OrderMetrics.SINGLE, outcomeOf(e));
             loggerUtils.logWarn(OrderMessageConsumer.class, "Bad request error while processing order number {}: {}", orderRequestDto.orderNumber(), e.getMessage());
             throw new AmqpRejectAndDontRequeueException("Erro crítico: " + e.getMessage());
         }
     }
+
+    private static OrderBatchStatus outcomeOf(Exception e) {
+        if (e instanceof MessageValidationException || e instanceof DomainException) {
+            return OrderBatchStatus.INVALID;
+        }
+        // O CreateOrderUseCase só lança BusinessException quando o número do pedido já existe
+        if (e instanceof BusinessException) {
+            return OrderBatchStatus.DUPLICATE;
+        }
+        return OrderBatchStatus.FAILED;
+    }
 }
@@ -0,0 +1,99 @@
+package com.santanna.serviceorder.application.usecase;
+
+import com.santanna.serviceorder.application.dto.OrderBatchStatus;
+import com.santanna.serviceorder.application.dto.OrderRequestDto;
+import com.santanna.serviceorder.application.utils.LoggerUtils;
+import com.santanna.serviceorder.application.utils.OrderMetrics;
+import com.santanna.serviceorder.domain.model.Order;
+import com.santanna.serviceorder.domain.model.OrderStatus;
+import com.santanna.serviceorder.domain.repository.OrderRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CreateOrderBatchUseCaseTest {
+
+    @InjectMocks
+    private CreateOrderBatchUseCase createOrderBatchUseCase;
+    @Mock
+    private LoggerUtils loggerUtils;
+    @Mock
+    private OrderRepository orderRepository;
+    @Mock
+    private Validator validator;
+    @Mock
+    private OrderMetrics orderMetrics;
+
+    @Test
+    @DisplayName("should Create New Orders And Report Duplicates And Invalid Records In Request Order")
+    @SuppressWarnings("unchecked")
+    void shouldCreateNewOrdersAndReportDuplicatesAndInvalidRecords() {
+        var existing = new OrderRequestDto("100", "Product A", 1, BigDecimal.TEN, null);
+        var invalid = new OrderRequestDto("101", "", 1, BigDecimal.TEN, null);
+        var created = new OrderRequestDto("102", "Product B", 2, BigDecimal.ONE, null);
+        var repeated = new OrderRequestDto("102", "Product B", 2, BigDecimal.ONE, null);
+
+        when(validator.validate(any(OrderRequestDto.class))).thenReturn(Set.of());
+        when(validator.validate(invalid)).thenReturn(Set.of(mock(ConstraintViolation.class)));
+        when(orderRepository.findExistingOrderNumbers(any())).thenReturn(Set.of("100"));
+        when(orderRepository.saveAll(any())).thenReturn(List.of(
+                new Order(7L, "102", "Product B", 2, 200L, Order.DEFAULT_CURRENCY, OrderStatus.PROCESSED, System.currentTimeMillis())));
+
+        var results = createOrderBatchUseCase.execute(List.of(existing, invalid, created, repeated));
+
+        assertEquals(List.of(OrderBatchStatus.DUPLICATE, OrderBatchStatus.INVALID,
+                        OrderBatchStatus.CREATED, OrderBatchStatus.DUPLICATE),
+                results.stream().map(r -> r.status()).toList());
+        assertEquals(7L, results.get(2).order().id());
+
+        ArgumentCaptor<Collection<String>> lookedUp = ArgumentCaptor.forClass(Collection.class);
+        verify(orderRepository, times(1)).findExistingOrderNumbers(lookedUp.capture());
+        assertEquals(Set.of("100", "102"), Set.copyOf(lookedUp.getValue()));
+        verify(orderRepository, times(1)).saveAll(argThat(orders -> orders.size() == 1));
+        verify(orderMetrics, times(2)).recordCreateOnCommit(OrderMetrics.BATCH, OrderBatchStatus.DUPLICATE);
+        verify(orderMetrics).recordCreateOnCommit(OrderMetrics.BATCH, OrderBatchStatus.INVALID);
+        verify(orderMetrics).recordCreateOnCommit(OrderMetrics.BATCH, OrderBatchStatus.CREATED);
+    }
+
+    @Test
+    @DisplayName("should Not Touch Database When Every Record Is Invalid")
+    @SuppressWarnings("unchecked")
+    void shouldNotTouchDatabaseWhenEveryRecordIsInvalid() {
+        var invalid = new OrderRequestDto(null, "Product A", 0, BigDecimal.TEN, null);
+        when(validator.validate(invalid)).thenReturn(Set.of(mock(ConstraintViolation.class)));
+
+        var results = createOrderBatchUseCase.execute(List.of(invalid));
+
+        assertEquals(OrderBatchStatus.INVALID, results.get(0).status());
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    @DisplayName("should Report Price Below The Currency Minor Unit As Invalid")
+    void shouldReportPriceBelowTheCurrencyMinorUnitAsInvalid() {
+        var fractional = new OrderRequestDto("103", "Product C", 1, new BigDecimal("10.005"), null);
+        when(validator.validate(fractional)).thenReturn(Set.of());
+        when(orderRepository.findExistingOrderNumbers(any())).thenReturn(Set.of());
+
+        var results = createOrderBatchUseCase.execute(List.of(fractional));
+
+        assertEquals(OrderBatchStatus.INVALID, results.get(0).status());
+        verify(orderRepository, never()).saveAll(any());
+    }
+}
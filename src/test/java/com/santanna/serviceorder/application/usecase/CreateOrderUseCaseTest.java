@@ -1,9 +1,11 @@
 package com.santanna.serviceorder.application.usecase;
 
 
+import com.santanna.serviceorder.application.dto.OrderBatchStatus;
 import com.santanna.serviceorder.application.dto.OrderRequestDto;
 import com.santanna.serviceorder.application.usecase.exception.BusinessException;
 import com.santanna.serviceorder.application.utils.LoggerUtils;
+import com.santanna.serviceorder.application.utils.OrderMetrics;
 import com.santanna.serviceorder.domain.model.Order;
 import com.santanna.serviceorder.domain.model.OrderConverter;
 import com.santanna.serviceorder.domain.model.OrderStatus;
@@ -17,7 +19,6 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
-import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -33,35 +34,38 @@ public class CreateOrderUseCaseTest {
     private LoggerUtils loggerUtils;
     @Mock
     private OrderRepository orderRepository;
+    @Mock
+    private OrderMetrics orderMetrics;
     private OrderRequestDto requestDto;
     private Order order;
 
     @BeforeEach
     void setUp() {
-        requestDto = new OrderRequestDto("123", "Product A", 2, BigDecimal.valueOf(100.0));
+        requestDto = new OrderRequestDto("123", "Product A", 2, BigDecimal.valueOf(100.0), null);
 
-        order = new Order(1L, "123", "Product A", 2, BigDecimal.valueOf(200.0)
-                , OrderStatus.PROCESSED, LocalDateTime.now());
+        order = new Order(1L, "123", "Product A", 2, 20000L, Order.DEFAULT_CURRENCY
+                , OrderStatus.PROCESSED, System.currentTimeMillis());
     }
 
     @Test
     @DisplayName("Should Throw Business Exception When OrderNumber Exists")
     public void shouldThrowBusinessExceptionWhenOrderNumberExists() {
-        when(orderRepository.findByOrderNumber("123")).thenReturn(Optional.of(order));
+        when(orderRepository.createIfAbsent(any(Order.class))).thenReturn(Optional.empty());
 
         var exception = assertThrows(BusinessException.class, () -> {
             createOrderUseCase.execute(requestDto);
         });
 
         assertEquals("There is already an order with this number.", exception.getMessage());
-        verify(orderRepository, never()).save(any());
+        verify(orderRepository, times(1)).createIfAbsent(any(Order.class));
+        verify(loggerUtils, never()).logInfoSampled(eq(CreateOrderUseCase.class), anyString(), any());
+        verify(orderMetrics).recordCreate(OrderMetrics.SINGLE, OrderBatchStatus.DUPLICATE);
     }
 
     @Test
     @DisplayName("should CreateOrder With Correct Values When OrderNumber Is Unique")
     public void shouldCreateOrderWithCorrectValuesWhenOrderNumberIsUnique() {
-        when(orderRepository.findByOrderNumber("123")).thenReturn(Optional.empty());
-        when(orderRepository.save(any(Order.class))).thenReturn(order);
+        when(orderRepository.createIfAbsent(any(Order.class))).thenReturn(Optional.of(order));
 
         var responseDto = createOrderUseCase.execute(requestDto);
 
@@ -69,22 +73,21 @@ public class CreateOrderUseCaseTest {
         assertEquals(responseDto.orderNumber(), responseDto.orderNumber());
         assertEquals(requestDto.productName(), responseDto.productName());
         assertEquals(requestDto.quantity(), responseDto.quantity());
-        assertEquals(
-                requestDto.unitPrice().multiply(BigDecimal.valueOf(requestDto.quantity())),
-                responseDto.totalValue()
-        );
+        assertEquals(0, requestDto.unitPrice().multiply(BigDecimal.valueOf(requestDto.quantity()))
+                .compareTo(responseDto.totalValue()));
         assertEquals(OrderStatus.PROCESSED, responseDto.status());
         assertNotNull(responseDto.createdAt());
-        verify(orderRepository, times(1)).findByOrderNumber("123");
-        verify(orderRepository, times(1)).save(any(Order.class));
-        verify(loggerUtils, times(1)).logInfo(eq(CreateOrderUseCase.class), anyString(), any());
+        verify(orderRepository, times(1)).createIfAbsent(argThat(created ->
+                !created.hasId() && "123".equals(created.getOrderNumber()) && created.getTotalValue() == 20000L));
+        verify(orderRepository, never()).findByOrderNumber(any());
+        verify(loggerUtils, times(1)).logInfoSampled(eq(CreateOrderUseCase.class), anyString(), any());
+        verify(orderMetrics).recordCreateOnCommit(OrderMetrics.SINGLE, OrderBatchStatus.CREATED);
     }
 
     @Test
     @DisplayName("should Convert SavedOrder To ResponseDto Correctly")
     void shouldConvertSavedOrderToResponseDtoCorrectly() {
-        when(orderRepository.findByOrderNumber("123")).thenReturn(Optional.empty());
-        when(orderRepository.save(any())).thenReturn(order);
+        when(orderRepository.createIfAbsent(any())).thenReturn(Optional.of(order));
 
         var responseDto = createOrderUseCase.execute(requestDto);
 
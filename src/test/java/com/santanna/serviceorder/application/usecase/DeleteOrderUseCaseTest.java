@@ -40,7 +40,7 @@ public class DeleteOrderUseCaseTest {
     @Test
     @DisplayName("Should delete order successfully")
     void shouldDeleteOrderSuccessfully() {
-        when(orderRepository.findById(ORDER_ID)).thenReturn(Optional.of(new Order()));
+        when(orderRepository.findById(ORDER_ID)).thenReturn(Optional.of(order()));
         assertDoesNotThrow(() -> deleteOrderUseCase.execute(ORDER_ID));
 
         verify(orderRepository).deleteById(ORDER_ID);
@@ -90,7 +90,7 @@ public class DeleteOrderUseCaseTest {
     @DisplayName("should Throw BusinessException When Any Error Happens During Deletion")
     void shouldThrowBusinessExceptionWhenAnyErrorHappensDuringDeletion() {
 
-        when(orderRepository.findById(ORDER_ID)).thenReturn(Optional.of(new Order()));
+        when(orderRepository.findById(ORDER_ID)).thenReturn(Optional.of(order()));
 
         doThrow(new RuntimeException("Error")).when(orderRepository).deleteById(ORDER_ID);
 
@@ -111,4 +111,9 @@ public class DeleteOrderUseCaseTest {
          verify(orderRepository).deleteById(ORDER_ID);
     }
 
-}
\ No newline at end of file
+
+    private Order order() {
+        return new Order(ORDER_ID, "123", "Product A", 1, 10000L, Order.DEFAULT_CURRENCY,
+                OrderStatus.PROCESSED, System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,56 @@
+package com.santanna.serviceorder.application.usecase;
+
+import com.santanna.serviceorder.application.dto.OrderResponseDto;
+import com.santanna.serviceorder.application.utils.LoggerUtils;
+import com.santanna.serviceorder.domain.model.Order;
+import com.santanna.serviceorder.domain.model.OrderStatus;
+import com.santanna.serviceorder.domain.repository.OrderRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ExportOrdersUseCaseTest {
+
+    @InjectMocks
+    private ExportOrdersUseCase exportOrdersUseCase;
+    @Mock
+    private LoggerUtils loggerUtils;
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Test
+    @DisplayName("should Pass Every Streamed Order To The Sink As Dto")
+    void shouldPassEveryStreamedOrderToTheSinkAsDto() {
+        var from = LocalDateTime.of(2025, 1, 1, 0, 0);
+        var to = LocalDateTime.of(2025, 2, 1, 0, 0);
+        var order1 = new Order(1L, "123", "Product A", 2, 20000L, Order.DEFAULT_CURRENCY, OrderStatus.PROCESSED, Order.toEpochMilli(from));
+        var order2 = new Order(2L, "124", "Product B", 1, 10000L, Order.DEFAULT_CURRENCY, OrderStatus.PROCESSED, Order.toEpochMilli(from));
+
+        when(orderRepository.streamAll(eq(OrderStatus.PROCESSED), eq(from), eq(to), any())).thenAnswer(invocation -> {
+            Consumer<Order> consumer = invocation.getArgument(3);
+            consumer.accept(order1);
+            consumer.accept(order2);
+            return 2L;
+        });
+
+        List<OrderResponseDto> exported = new ArrayList<>();
+        long total = exportOrdersUseCase.execute(OrderStatus.PROCESSED, from, to, exported::add);
+
+        assertEquals(2L, total);
+        assertEquals(List.of("123", "124"), exported.stream().map(OrderResponseDto::orderNumber).toList());
+    }
+}
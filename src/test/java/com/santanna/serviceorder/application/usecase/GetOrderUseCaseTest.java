@@ -1,10 +1,16 @@
 package com.santanna.serviceorder.application.usecase;
 
 import com.santanna.serviceorder.application.dto.OrderResponseDto;
+import com.santanna.serviceorder.application.usecase.exception.BusinessException;
 import com.santanna.serviceorder.application.usecase.exception.NotFoundException;
+import com.santanna.serviceorder.application.utils.CursorCodec;
 import com.santanna.serviceorder.application.utils.LoggerUtils;
+import com.santanna.serviceorder.domain.common.ApproximateCount;
+import com.santanna.serviceorder.domain.common.CursorPage;
 import com.santanna.serviceorder.domain.common.PaginatedResult;
+import com.santanna.serviceorder.domain.common.SliceResult;
 import com.santanna.serviceorder.domain.model.Order;
+import com.santanna.serviceorder.domain.model.OrderConverter;
 import com.santanna.serviceorder.domain.model.OrderStatus;
 import com.santanna.serviceorder.domain.repository.OrderRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,6 +24,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 
@@ -40,8 +47,8 @@ class GetOrderUseCaseTest {
     void setUp() {
 
 
-        order = new Order(1L, "123", "Product A", 2, BigDecimal.valueOf(200.0)
-                , OrderStatus.PROCESSED, LocalDateTime.now());
+        order = new Order(1L, "123", "Product A", 2, 20000L, Order.DEFAULT_CURRENCY
+                , OrderStatus.PROCESSED, System.currentTimeMillis());
 
     }
 
@@ -58,17 +65,17 @@ class GetOrderUseCaseTest {
         assertEquals(order.getOrderNumber(), responseDto.orderNumber());
         assertEquals(order.getProductName(), responseDto.productName());
         assertEquals(order.getQuantity(), responseDto.quantity());
-        assertEquals(order.getTotalValue(), responseDto.totalValue()
-        );
+        assertEquals(new BigDecimal("200.00"), responseDto.totalValue());
+        assertEquals("BRL", responseDto.currency());
         assertEquals(OrderStatus.PROCESSED, responseDto.status());
         assertNotNull(responseDto.createdAt());
 
-        verify(loggerUtils).logInfo(
+        verify(loggerUtils).logDebug(
                 eq(GetOrderUseCase.class),
                 eq("Fetching order by ID: {}"),
                 eq(1L)
         );
-        verify(loggerUtils).logInfo(
+        verify(loggerUtils).logInfoSampled(
                 eq(GetOrderUseCase.class),
                 eq("Order found. ID: {}"),
                 eq(1L)
@@ -89,7 +96,7 @@ class GetOrderUseCaseTest {
 
         assertEquals("Order not found", notFoundException.getMessage());
 
-        verify(loggerUtils).logInfo(
+        verify(loggerUtils).logDebug(
                 eq(GetOrderUseCase.class),
                 eq("Fetching order by ID: {}"),
                 eq(99L)
@@ -101,17 +108,17 @@ class GetOrderUseCaseTest {
     @Test
     @DisplayName("should Return All Orders Paginated")
     void shouldReturnAllOrdersPaginated() {
-        Order order1 = new Order();
-       var order2 = new Order(2L, "124", "Product B", 1, BigDecimal.valueOf(100.0)
-                , OrderStatus.PROCESSED, LocalDateTime.now());
+        Order order1 = order;
+       var order2 = new Order(2L, "124", "Product B", 1, 10000L, Order.DEFAULT_CURRENCY
+                , OrderStatus.PROCESSED, System.currentTimeMillis());
 
-        List<Order> orderList = Arrays.asList(order1, order2);
+        List<OrderResponseDto> orderList = Arrays.asList(OrderConverter.toDto(order1), OrderConverter.toDto(order2));
 
-        PaginatedResult<Order> paginatedOrders = new PaginatedResult<>(
+        PaginatedResult<OrderResponseDto> paginatedOrders = new PaginatedResult<>(
                 orderList, 0, 2, 2L
         );
 
-        when(orderRepository.findAll(0, 2)).thenReturn(paginatedOrders);
+        when(orderRepository.findAllView(0, 2)).thenReturn(paginatedOrders);
 
         PaginatedResult<OrderResponseDto> result = getOrderUseCase.getAllOrders(0, 2);
 
@@ -129,8 +136,119 @@ class GetOrderUseCaseTest {
         );
         verify(loggerUtils).logInfo(
                 eq(GetOrderUseCase.class),
-                eq("Retrieved {} orders successfully")
+                eq("Retrieved {} orders successfully"),
+                eq(2)
         );
-        verify(orderRepository).findAll(0, 2);
+        verify(orderRepository).findAllView(0, 2);
+    }
+
+    @Test
+    @DisplayName("should Return Next Cursor When More Orders Exist")
+    void shouldReturnNextCursorWhenMoreOrdersExist() {
+        var order2 = new Order(2L, "124", "Product B", 1, 10000L, Order.DEFAULT_CURRENCY
+                , OrderStatus.PROCESSED, System.currentTimeMillis());
+        var order3 = new Order(3L, "125", "Product C", 1, 10000L, Order.DEFAULT_CURRENCY
+                , OrderStatus.PROCESSED, System.currentTimeMillis());
+
+        when(orderRepository.findAfterView(0L, 3)).thenReturn(List.of(OrderConverter.toDto(order),
+                OrderConverter.toDto(order2), OrderConverter.toDto(order3)));
+
+        CursorPage<OrderResponseDto> result = getOrderUseCase.getOrdersAfter("", 2);
+
+        assertEquals(2, result.getContent().size());
+        assertTrue(result.isHasNext());
+        assertEquals(2L, CursorCodec.decode(result.getNextCursor()));
+        verify(orderRepository, never()).findAllView(anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("should Page Status Listing By Creation Time And Id")
+    void shouldPageStatusListingByCreationTimeAndId() {
+        var statuses = EnumSet.of(OrderStatus.RECEIVED, OrderStatus.PROCESSED);
+        var newer = new Order(7L, "124", "Product B", 1, 10000L, Order.DEFAULT_CURRENCY
+                , OrderStatus.RECEIVED, 2_000L);
+        var older = new Order(5L, "125", "Product C", 1, 10000L, Order.DEFAULT_CURRENCY
+                , OrderStatus.PROCESSED, 1_000L);
+        when(orderRepository.findByStatusBefore(statuses, Long.MAX_VALUE, Long.MAX_VALUE, 2))
+                .thenReturn(List.of(newer, older));
+        when(orderRepository.findByStatusBefore(statuses, 2_000L, 7L, 2)).thenReturn(List.of(older));
+
+        CursorPage<OrderResponseDto> first = getOrderUseCase.getOrdersByStatus(statuses, "", 1);
+        CursorPage<OrderResponseDto> second = getOrderUseCase.getOrdersByStatus(statuses, first.getNextCursor(), 1);
+
+        assertEquals(7L, first.getContent().get(0).id());
+        assertEquals(new CursorCodec.Position(2_000L, 7L), CursorCodec.decodePosition(first.getNextCursor()));
+        assertEquals(5L, second.getContent().get(0).id());
+        assertFalse(second.isHasNext());
+    }
+
+    @Test
+    @DisplayName("should Reject Status Listing Without Statuses")
+    void shouldRejectStatusListingWithoutStatuses() {
+        assertThrows(BusinessException.class,
+                () -> getOrderUseCase.getOrdersByStatus(EnumSet.noneOf(OrderStatus.class), "", 10));
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    @DisplayName("should Return Last Page Without Cursor")
+    void shouldReturnLastPageWithoutCursor() {
+        when(orderRepository.findAfterView(1L, 3)).thenReturn(List.of(OrderConverter.toDto(order)));
+
+        CursorPage<OrderResponseDto> result = getOrderUseCase.getOrdersAfter(CursorCodec.encode(1L), 2);
+
+        assertEquals(1, result.getContent().size());
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("should Return Slice Without Counting")
+    void shouldReturnSliceWithoutCounting() {
+        when(orderRepository.findSliceView(0, 1)).thenReturn(new SliceResult<>(List.of(OrderConverter.toDto(order)), 0, 1, true));
+
+        SliceResult<OrderResponseDto> result = getOrderUseCase.getOrdersSlice(0, 1);
+
+        assertEquals(1, result.getContent().size());
+        assertTrue(result.isHasNext());
+        verify(orderRepository, never()).findAllView(anyInt(), anyInt());
+        verify(orderRepository, never()).approximateCount();
+    }
+
+    @Test
+    @DisplayName("should Tag Cached Total As Approximate")
+    void shouldTagCachedTotalAsApproximate() {
+        var countedAt = LocalDateTime.now().minusSeconds(30);
+        when(orderRepository.findSliceView(1, 1)).thenReturn(new SliceResult<>(List.of(OrderConverter.toDto(order)), 1, 1, true));
+        when(orderRepository.approximateCount()).thenReturn(new ApproximateCount(40L, countedAt));
+
+        PaginatedResult<OrderResponseDto> result = getOrderUseCase.getAllOrdersWithApproximateTotal(1, 1);
+
+        assertEquals(40L, result.getTotalElements());
+        assertTrue(result.isTotalApproximate());
+        assertEquals(countedAt, result.getTotalCountedAt());
+        verify(orderRepository, never()).findAllView(anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("should Use Exact Total On Last Page Even When Cached Count Is Stale")
+    void shouldUseExactTotalOnLastPage() {
+        when(orderRepository.findSliceView(2, 10)).thenReturn(new SliceResult<>(List.of(OrderConverter.toDto(order)), 2, 10, false));
+        when(orderRepository.approximateCount()).thenReturn(new ApproximateCount(5L, LocalDateTime.now()));
+
+        PaginatedResult<OrderResponseDto> result = getOrderUseCase.getAllOrdersWithApproximateTotal(2, 10);
+
+        assertEquals(21L, result.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("should Use Cached Total For A Page Past The End")
+    void shouldUseCachedTotalForAPagePastTheEnd() {
+        when(orderRepository.findSliceView(50, 10)).thenReturn(new SliceResult<>(List.of(), 50, 10, false));
+        when(orderRepository.approximateCount()).thenReturn(new ApproximateCount(21L, LocalDateTime.now()));
+
+        PaginatedResult<OrderResponseDto> result = getOrderUseCase.getAllOrdersWithApproximateTotal(50, 10);
+
+        assertEquals(21L, result.getTotalElements());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,88 @@
+package com.santanna.serviceorder.application.usecase;
+
+import com.santanna.serviceorder.application.usecase.exception.NotFoundException;
+import com.santanna.serviceorder.application.utils.CursorCodec;
+import com.santanna.serviceorder.application.utils.LoggerUtils;
+import com.santanna.serviceorder.domain.exception.DomainException;
+import com.santanna.serviceorder.domain.model.Order;
+import com.santanna.serviceorder.domain.model.OrderStatus;
+import com.santanna.serviceorder.domain.repository.ReactiveOrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveGetOrderUseCaseTest {
+
+    @InjectMocks
+    private ReactiveGetOrderUseCase reactiveGetOrderUseCase;
+    @Mock
+    private LoggerUtils loggerUtils;
+    @Mock
+    private ReactiveOrderRepository reactiveOrderRepository;
+    private Order order;
+
+    @BeforeEach
+    void setUp() {
+        order = new Order(1L, "123", "Product A", 2, 20000L, Order.DEFAULT_CURRENCY
+                , OrderStatus.PROCESSED, System.currentTimeMillis());
+    }
+
+    @Test
+    @DisplayName("should Return Order Dto When Order Exists")
+    void shouldReturnOrderDtoWhenOrderExists() {
+        when(reactiveOrderRepository.findById(1L)).thenReturn(Mono.just(order));
+
+        var result = reactiveGetOrderUseCase.getById(1L).block();
+
+        assertNotNull(result);
+        assertEquals(1L, result.id());
+        assertEquals("123", result.orderNumber());
+    }
+
+    @Test
+    @DisplayName("should Signal NotFound When Order Does Not Exist")
+    void shouldSignalNotFoundWhenOrderDoesNotExist() {
+        when(reactiveOrderRepository.findById(9L)).thenReturn(Mono.empty());
+
+        var exception = assertThrows(NotFoundException.class, () -> reactiveGetOrderUseCase.getById(9L).block());
+
+        assertEquals("Order not found", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("should Return Next Cursor When More Orders Exist")
+    void shouldReturnNextCursorWhenMoreOrdersExist() {
+        var order2 = new Order(2L, "124", "Product B", 1, 10000L, Order.DEFAULT_CURRENCY
+                , OrderStatus.PROCESSED, System.currentTimeMillis());
+        var order3 = new Order(3L, "125", "Product C", 1, 10000L, Order.DEFAULT_CURRENCY
+                , OrderStatus.PROCESSED, System.currentTimeMillis());
+        when(reactiveOrderRepository.findAfter(0L, 3)).thenReturn(Flux.just(order, order2, order3));
+
+        var result = reactiveGetOrderUseCase.getOrdersAfter("", 2).block();
+
+        assertNotNull(result);
+        assertEquals(2, result.getContent().size());
+        assertEquals(2L, CursorCodec.decode(result.getNextCursor()));
+    }
+
+    @Test
+    @DisplayName("should Reject Non Positive Page Size Without Querying")
+    void shouldRejectNonPositivePageSizeWithoutQuerying() {
+        assertThrows(DomainException.class, () -> reactiveGetOrderUseCase.getOrdersAfter("", 0).block());
+
+        verify(reactiveOrderRepository, never()).findAfter(anyLong(), anyInt());
+    }
+}
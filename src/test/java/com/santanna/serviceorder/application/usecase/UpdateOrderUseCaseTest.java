@@ -16,8 +16,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.math.BigDecimal;
-import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -38,8 +36,8 @@ public class UpdateOrderUseCaseTest {
 
     @BeforeEach
     void setUp() {
-        order = new Order(1L, "123", "Product A", 2, BigDecimal.valueOf(200.0)
-                , OrderStatus.PROCESSED, LocalDateTime.now());
+        order = new Order(1L, "123", "Product A", 2, 20000L, Order.DEFAULT_CURRENCY
+                , OrderStatus.PROCESSED, System.currentTimeMillis());
     }
 
     @Test
@@ -61,8 +59,8 @@ public class UpdateOrderUseCaseTest {
     public void shouldConvertUpdateOrderToResponseDtoCorrectly() {
         when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
 
-        order = new Order(1L, "123", "Product A", 2, BigDecimal.valueOf(200.0)
-                , OrderStatus.DELIVERED, LocalDateTime.now());
+        order = new Order(1L, "123", "Product A", 2, 20000L, Order.DEFAULT_CURRENCY
+                , OrderStatus.DELIVERED, System.currentTimeMillis());
 
         when(orderRepository.save(any(Order.class))).thenReturn(order);
 
@@ -77,8 +75,8 @@ public class UpdateOrderUseCaseTest {
     public void shouldUpdateOrderCorrectly() {
         when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
 
-        order = new Order(1L, "123", "Product A", 2, BigDecimal.valueOf(200.0)
-                , OrderStatus.DELIVERED, LocalDateTime.now());
+        order = new Order(1L, "123", "Product A", 2, 20000L, Order.DEFAULT_CURRENCY
+                , OrderStatus.DELIVERED, System.currentTimeMillis());
 
         when(orderRepository.save(any(Order.class))).thenReturn(order);
 
@@ -89,7 +87,7 @@ public class UpdateOrderUseCaseTest {
         assertEquals(OrderStatus.DELIVERED, responseDto.status());
         assertNotNull(responseDto.createdAt());
         verify(orderRepository, times(1)).save(any(Order.class));
-        verify(loggerUtils).logInfo(
+        verify(loggerUtils).logDebug(
                 eq(UpdateOrderUseCase.class),
                 eq("Updating order status. ID: {}, New Status: {}"),
                 eq(1L),
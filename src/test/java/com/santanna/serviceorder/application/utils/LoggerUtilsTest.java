@@ -0,0 +1,96 @@
+package com.santanna.serviceorder.application.utils;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoggerUtilsTest {
+
+    private LoggerUtils loggerUtils;
+    private Logger logger;
+    private ListAppender<ILoggingEvent> appender;
+
+    @BeforeEach
+    void setUp() {
+        loggerUtils = new LoggerUtils(3);
+        logger = (Logger) LoggerFactory.getLogger(LoggerUtilsTest.class);
+        logger.setLevel(Level.INFO);
+        appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        logger.setLevel(null);
+    }
+
+    @Test
+    @DisplayName("should Reuse The Same Logger Per Class")
+    void shouldReuseTheSameLoggerPerClass() {
+        assertSame(loggerUtils.getLogger(LoggerUtilsTest.class), loggerUtils.getLogger(LoggerUtilsTest.class));
+    }
+
+    @Test
+    @DisplayName("should Pass The Exception To The Logger")
+    void shouldPassTheExceptionToTheLogger() {
+        var failure = new IllegalStateException("boom");
+
+        loggerUtils.logError(LoggerUtilsTest.class, "Order {} failed", failure, 7L);
+        loggerUtils.logError(LoggerUtilsTest.class, "Order {} failed on {} after {}", failure, 7L, "save", 3);
+
+        assertEquals(2, appender.list.size());
+        assertEquals("Order 7 failed", appender.list.get(0).getFormattedMessage());
+        assertEquals("boom", appender.list.get(0).getThrowableProxy().getMessage());
+        assertEquals("Order 7 failed on save after 3", appender.list.get(1).getFormattedMessage());
+        assertEquals("boom", appender.list.get(1).getThrowableProxy().getMessage());
+    }
+
+    @Test
+    @DisplayName("should Limit Sampled Lines Per Message")
+    void shouldLimitSampledLinesPerMessage() {
+        for (int i = 0; i < 50; i++) {
+            loggerUtils.logInfoSampled(LoggerUtilsTest.class, "Order created. ID: {}", i);
+            loggerUtils.logInfoSampled(LoggerUtilsTest.class, "Order found. ID: {}", i);
+        }
+
+        // A janela é de um segundo; o laço pode atravessar a virada, mas nunca passa de duas janelas
+        long created = appender.list.stream().filter(e -> e.getMessage().startsWith("Order created")).count();
+        long found = appender.list.stream().filter(e -> e.getMessage().startsWith("Order found")).count();
+        assertTrue(created >= 3 && created <= 6, "created lines: " + created);
+        assertTrue(found >= 3 && found <= 6, "found lines: " + found);
+    }
+
+    @Test
+    @DisplayName("should Report Suppressed Lines In The Next Window")
+    void shouldReportSuppressedLinesInTheNextWindow() {
+        var sampler = new LoggerUtils.Sampler();
+
+        assertEquals(0, sampler.tryAcquire(10, 2));
+        assertEquals(0, sampler.tryAcquire(10, 2));
+        assertEquals(-1, sampler.tryAcquire(10, 2));
+        assertEquals(-1, sampler.tryAcquire(10, 2));
+        assertEquals(2, sampler.tryAcquire(11, 2));
+        assertEquals(0, sampler.tryAcquire(11, 2));
+    }
+
+    @Test
+    @DisplayName("should Skip Sampled Lines When Level Is Disabled")
+    void shouldSkipSampledLinesWhenLevelIsDisabled() {
+        logger.setLevel(Level.WARN);
+
+        loggerUtils.logInfoSampled(LoggerUtilsTest.class, "Order created. ID: {}", 1L);
+        loggerUtils.logInfo(LoggerUtilsTest.class, "Order {} and {}", 1L, 2L);
+
+        assertTrue(appender.list.isEmpty());
+    }
+}
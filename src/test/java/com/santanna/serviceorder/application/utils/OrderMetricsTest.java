@@ -0,0 +1,55 @@
+package com.santanna.serviceorder.application.utils;
+
+import com.santanna.serviceorder.application.dto.OrderBatchStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OrderMetrics orderMetrics = new OrderMetrics(meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    private double created() {
+        return meterRegistry.get("order.create").tags("mode", OrderMetrics.BATCH, "outcome", "created").counter().count();
+    }
+
+    @Test
+    @DisplayName("should Count Creates Only When The Transaction Commits")
+    void shouldCountCreatesOnlyWhenTheTransactionCommits() {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        orderMetrics.recordCreateOnCommit(OrderMetrics.BATCH, OrderBatchStatus.CREATED);
+        assertEquals(0.0, created());
+
+        // rollback: as sincronizações são descartadas sem afterCommit
+        TransactionSynchronizationManager.clearSynchronization();
+        assertEquals(0.0, created());
+
+        TransactionSynchronizationManager.initSynchronization();
+        orderMetrics.recordCreateOnCommit(OrderMetrics.BATCH, OrderBatchStatus.CREATED);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(1.0, created());
+    }
+
+    @Test
+    @DisplayName("should Count Right Away Outside A Transaction")
+    void shouldCountRightAwayOutsideATransaction() {
+        orderMetrics.recordCreateOnCommit(OrderMetrics.BATCH, OrderBatchStatus.CREATED);
+
+        assertEquals(1.0, created());
+    }
+}
@@ -0,0 +1,74 @@
+package com.santanna.serviceorder.domain.model;
+
+import com.santanna.serviceorder.domain.builder.OrderDirector;
+import com.santanna.serviceorder.domain.builder.objectbuild.CreateOrderBuilder;
+import com.santanna.serviceorder.domain.exception.DomainException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Currency;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderTest {
+
+    @Test
+    @DisplayName("should Build Order With Total Of Unit Price Times Quantity")
+    void shouldBuildOrderWithTotalOfUnitPriceTimesQuantity() {
+        var director = new OrderDirector(new CreateOrderBuilder());
+        director.getBuilder(null, "ORD1", "Product A", 3, new BigDecimal("2999.90"), Order.DEFAULT_CURRENCY,
+                OrderStatus.PROCESSED, 0L);
+
+        var order = director.getOrderBuilder();
+
+        assertFalse(order.hasId());
+        assertEquals(899_970L, order.getTotalValue());
+        assertEquals(new BigDecimal("8999.70"), OrderConverter.toDto(order).totalValue());
+    }
+
+    @Test
+    @DisplayName("should Reject Total That Overflows")
+    void shouldRejectTotalThatOverflows() {
+        assertThrows(DomainException.class, () -> Order.calculateTotalValue(Long.MAX_VALUE / 2, 3));
+    }
+
+    @Test
+    @DisplayName("should Reject Amount With More Decimals Than The Currency")
+    void shouldRejectAmountWithMoreDecimalsThanTheCurrency() {
+        assertThrows(DomainException.class, () -> Money.toMinorUnits(new BigDecimal("10.005"), Order.DEFAULT_CURRENCY));
+        assertEquals(1_000L, Money.toMinorUnits(new BigDecimal("1000"), Currency.getInstance("JPY")));
+        assertEquals(1_000L, Money.toMinorUnits(new BigDecimal("10.0000"), Order.DEFAULT_CURRENCY));
+    }
+
+    @Test
+    @DisplayName("should Reject Unknown Currency")
+    void shouldRejectUnknownCurrency() {
+        assertThrows(DomainException.class, () -> Money.currency("XYZ"));
+        assertEquals(Order.DEFAULT_CURRENCY, Money.currency(null));
+    }
+
+    @Test
+    @DisplayName("should Convert Timestamps Without Losing Milliseconds")
+    void shouldConvertTimestampsWithoutLosingMilliseconds() {
+        var createdAt = LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999_000_000);
+
+        long epochMilli = Order.toEpochMilli(createdAt);
+
+        assertEquals(-1L, epochMilli);
+        assertEquals(createdAt, Order.toLocalDateTime(epochMilli));
+    }
+
+    @Test
+    @DisplayName("should Change Status Without Mutating The Original")
+    void shouldChangeStatusWithoutMutatingTheOriginal() {
+        var order = new Order(1L, "ORD1", "Product A", 1, 100L, Order.DEFAULT_CURRENCY, OrderStatus.PROCESSED, 0L);
+
+        var delivered = order.withStatus(OrderStatus.DELIVERED);
+
+        assertEquals(OrderStatus.PROCESSED, order.getOrderStatus());
+        assertEquals(OrderStatus.DELIVERED, delivered.getOrderStatus());
+        assertEquals(order.getId(), delivered.getId());
+    }
+}
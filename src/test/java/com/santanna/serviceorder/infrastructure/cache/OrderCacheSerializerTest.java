@@ -0,0 +1,85 @@
+package com.santanna.serviceorder.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.santanna.serviceorder.application.dto.OrderResponseDto;
+import com.santanna.serviceorder.domain.model.OrderStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderCacheSerializerTest {
+
+    private GenericJackson2JsonRedisSerializer json;
+    private OrderCacheSerializer serializer;
+    private OrderResponseDto order;
+
+    @BeforeEach
+    void setUp() {
+        json = new GenericJackson2JsonRedisSerializer(new ObjectMapper().registerModule(new JavaTimeModule()));
+        serializer = new OrderCacheSerializer(json, 256);
+        order = new OrderResponseDto(42L, "ORD12345", "Product A", 3, new BigDecimal("1500.50"),
+                "BRL", OrderStatus.PROCESSED, LocalDateTime.of(2025, 6, 1, 10, 15, 30, 123_000_000));
+    }
+
+    @Test
+    @DisplayName("should Round Trip Order In Fewer Bytes Than Json")
+    void shouldRoundTripOrderInFewerBytesThanJson() {
+        byte[] bytes = serializer.serialize(order);
+
+        assertEquals(OrderCacheSerializer.FORMAT_VERSION, bytes[0]);
+        assertEquals(order, serializer.deserialize(bytes));
+        assertTrue(bytes.length * 2 < json.serialize(order).length);
+    }
+
+    @Test
+    @DisplayName("should Round Trip Order With Null Fields")
+    void shouldRoundTripOrderWithNullFields() {
+        var partial = new OrderResponseDto(null, "ORD1", null, null, null, null, null, null);
+
+        assertEquals(partial, serializer.deserialize(serializer.serialize(partial)));
+    }
+
+    @Test
+    @DisplayName("should Compress Entries Above Threshold")
+    void shouldCompressEntriesAboveThreshold() {
+        var large = new OrderResponseDto(1L, "ORD1", "Product ".repeat(100), 1, BigDecimal.ONE,
+                "BRL", OrderStatus.RECEIVED, LocalDateTime.now());
+
+        byte[] bytes = serializer.serialize(large);
+
+        assertEquals(OrderCacheSerializer.FLAG_COMPRESSED, bytes[1]);
+        assertEquals(large, serializer.deserialize(bytes));
+    }
+
+    @Test
+    @DisplayName("should Treat Legacy Json Entries As Cache Miss")
+    void shouldTreatLegacyJsonEntriesAsCacheMiss() {
+        assertNull(serializer.deserialize(json.serialize(order)));
+    }
+
+    @Test
+    @DisplayName("should Fall Back To Json For Other Values")
+    void shouldFallBackToJsonForOtherValues() {
+        byte[] bytes = serializer.serialize(List.of("a", "b"));
+
+        assertEquals(OrderCacheSerializer.FLAG_JSON, bytes[1]);
+        assertEquals(List.of("a", "b"), serializer.deserialize(bytes));
+    }
+
+    @Test
+    @DisplayName("should Treat Unknown Format Version As Cache Miss")
+    void shouldTreatUnknownFormatVersionAsCacheMiss() {
+        byte[] bytes = serializer.serialize(order);
+        bytes[0] = (byte) (OrderCacheSerializer.FORMAT_VERSION + 1);
+
+        assertNull(serializer.deserialize(bytes));
+    }
+}
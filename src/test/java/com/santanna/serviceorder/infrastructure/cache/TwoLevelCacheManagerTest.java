@@ -0,0 +1,77 @@
+package com.santanna.serviceorder.infrastructure.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TwoLevelCacheManagerTest {
+
+    @Mock
+    private RedisCacheManager redisCacheManager;
+    @Mock
+    private CacheInvalidationPublisher publisher;
+
+    private ConcurrentMapCache remote;
+    private TwoLevelCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        remote = new ConcurrentMapCache("orders");
+        when(redisCacheManager.getCache("orders")).thenReturn(remote);
+        cacheManager = new TwoLevelCacheManager(redisCacheManager, publisher, null, 100, Duration.ofSeconds(30),
+                Duration.ofSeconds(5), e -> false);
+        cacheManager.setTransactionAware(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("should Apply Put Only After Transaction Commits")
+    void shouldApplyPutOnlyAfterTransactionCommits() {
+        var cache = cacheManager.getCache("orders");
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.put(1L, "order-1");
+
+        assertNull(remote.get(1L));
+        verifyNoInteractions(publisher);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertEquals("order-1", remote.get(1L).get());
+        assertEquals("order-1", cache.get(1L).get());
+        verify(publisher).publishEvict("orders", "1");
+    }
+
+    @Test
+    @DisplayName("should Drop Local Entry When Another Node Invalidates It")
+    void shouldDropLocalEntryWhenAnotherNodeInvalidatesIt() {
+        when(publisher.getNodeId()).thenReturn("this-node");
+        var cache = cacheManager.getCache("orders");
+        cache.put(1L, "order-1");
+        remote.evict(1L);
+
+        cacheManager.onInvalidation("E|other-node|orders|1");
+
+        assertNull(cache.get(1L));
+    }
+}
@@ -0,0 +1,223 @@
+package com.santanna.serviceorder.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TwoLevelCacheTest {
+
+    @Mock
+    private CacheInvalidationPublisher publisher;
+
+    private ConcurrentMapCache remote;
+    private com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private TwoLevelCache cache;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        remote = spy(new ConcurrentMapCache("orders"));
+        local = Caffeine.newBuilder().maximumSize(100).build();
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new TwoLevelCache("orders", local, remote, publisher,
+                Caffeine.newBuilder().expireAfterWrite(Duration.ofSeconds(5)).build(),
+                e -> e instanceof IllegalArgumentException, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("should Serve Repeated Reads From Local Tier")
+    void shouldServeRepeatedReadsFromLocalTier() {
+        remote.put(1L, "order-1");
+
+        assertEquals("order-1", cache.get(1L).get());
+        assertEquals("order-1", cache.get(1L).get());
+
+        verify(remote, times(1)).get(1L);
+        assertEquals("order-1", local.getIfPresent("1"));
+    }
+
+    @Test
+    @DisplayName("should Write Both Tiers And Notify Other Nodes On Put")
+    void shouldWriteBothTiersAndNotifyOtherNodesOnPut() {
+        cache.put(1L, "order-1");
+
+        assertEquals("order-1", remote.get(1L).get());
+        assertEquals("order-1", local.getIfPresent("1"));
+        verify(publisher).publishEvict("orders", "1");
+    }
+
+    @Test
+    @DisplayName("should Fill Both Tiers Without Notifying Other Nodes After A Load")
+    void shouldFillBothTiersWithoutNotifyingOtherNodesAfterALoad() {
+        assertEquals("order-1", cache.get(1L, () -> "order-1"));
+
+        assertEquals("order-1", remote.get(1L).get());
+        assertEquals("order-1", local.getIfPresent("1"));
+        verifyNoInteractions(publisher);
+    }
+
+    @Test
+    @DisplayName("should Evict Only Local Tier On Remote Invalidation")
+    void shouldEvictOnlyLocalTierOnRemoteInvalidation() {
+        cache.put(1L, "order-1");
+
+        cache.evictLocal("1");
+
+        assertNull(local.getIfPresent("1"));
+        assertEquals("order-1", remote.get(1L).get());
+    }
+
+    @Test
+    @DisplayName("should Cache Null Values In Local Tier")
+    void shouldCacheNullValuesInLocalTier() {
+        cache.put(2L, null);
+        remote.evict(2L);
+
+        var wrapper = cache.get(2L);
+
+        assertNotNull(wrapper);
+        assertNull(wrapper.get());
+    }
+
+    @Test
+    @DisplayName("should Run A Single Loader For Concurrent Misses On The Same Key")
+    void shouldRunASingleLoaderForConcurrentMissesOnTheSameKey() throws Exception {
+        var loads = new AtomicInteger();
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        Callable<String> slowLoader = () -> {
+            loads.incrementAndGet();
+            started.countDown();
+            release.await();
+            return "order-1";
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> first = executor.submit(() -> cache.get(1L, slowLoader));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Future<String> second = executor.submit(() -> cache.get(1L, () -> {
+                loads.incrementAndGet();
+                return "other";
+            }));
+
+            var coalesced = meterRegistry.get("cache.loads.coalesced").counter();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (coalesced.count() < 1 && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            assertEquals("order-1", first.get(5, TimeUnit.SECONDS));
+            assertEquals("order-1", second.get(5, TimeUnit.SECONDS));
+            assertEquals(1, loads.get());
+            assertEquals(1.0, coalesced.count());
+            assertEquals(1.0, meterRegistry.get("cache.loads").counter().count());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("should Answer Repeated Not Found Lookups From Negative Cache")
+    void shouldAnswerRepeatedNotFoundLookupsFromNegativeCache() {
+        var loads = new AtomicInteger();
+        Callable<String> missingLoader = () -> {
+            loads.incrementAndGet();
+            throw new IllegalArgumentException("Order not found");
+        };
+
+        var first = assertThrows(Cache.ValueRetrievalException.class, () -> cache.get(9L, missingLoader));
+        var second = assertThrows(Cache.ValueRetrievalException.class, () -> cache.get(9L, missingLoader));
+
+        assertInstanceOf(IllegalArgumentException.class, first.getCause());
+        assertSame(first.getCause(), second.getCause());
+        assertEquals(1, loads.get());
+        assertEquals(1.0, meterRegistry.get("cache.negative.hits").counter().count());
+    }
+
+    @Test
+    @DisplayName("should Not Negative Cache Other Failures")
+    void shouldNotNegativeCacheOtherFailures() {
+        var loads = new AtomicInteger();
+        Callable<String> failingLoader = () -> {
+            loads.incrementAndGet();
+            throw new IllegalStateException("database unavailable");
+        };
+
+        assertThrows(Cache.ValueRetrievalException.class, () -> cache.get(9L, failingLoader));
+        assertThrows(Cache.ValueRetrievalException.class, () -> cache.get(9L, failingLoader));
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("should Clear Negative Entry When Order Is Put")
+    void shouldClearNegativeEntryWhenOrderIsPut() {
+        assertThrows(Cache.ValueRetrievalException.class, () -> cache.get(9L, () -> {
+            throw new IllegalArgumentException("Order not found");
+        }));
+
+        cache.put(9L, "order-9");
+
+        assertEquals("order-9", cache.get(9L, () -> "unused"));
+    }
+
+    @Test
+    @DisplayName("should Load Asynchronously Once And Serve Later Reads From Local Tier")
+    void shouldLoadAsynchronouslyOnceAndServeLaterReadsFromLocalTier() {
+        var loads = new AtomicInteger();
+        Supplier<CompletableFuture<String>> loader = () -> {
+            loads.incrementAndGet();
+            return CompletableFuture.completedFuture("order-1");
+        };
+
+        assertEquals("order-1", cache.retrieve(1L, loader).join());
+        assertEquals("order-1", cache.retrieve(1L, loader).join());
+
+        assertEquals(1, loads.get());
+        assertEquals(1.0, meterRegistry.get("cache.loads").counter().count());
+        assertEquals("order-1", remote.get(1L).get());
+        assertEquals("order-1", local.getIfPresent("1"));
+    }
+
+    @Test
+    @DisplayName("should Negative Cache Asynchronous Not Found Loads")
+    void shouldNegativeCacheAsynchronousNotFoundLoads() {
+        var loads = new AtomicInteger();
+        Supplier<CompletableFuture<String>> loader = () -> {
+            loads.incrementAndGet();
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Order not found"));
+        };
+
+        var first = assertThrows(CompletionException.class, () -> cache.retrieve(9L, loader).join());
+        var second = assertThrows(CompletionException.class, () -> cache.retrieve(9L, loader).join());
+
+        assertInstanceOf(IllegalArgumentException.class, first.getCause());
+        assertInstanceOf(IllegalArgumentException.class, second.getCause());
+        assertEquals(1, loads.get());
+    }
+}
@@ -0,0 +1,99 @@
+package com.santanna.serviceorder.infrastructure.database;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConcurrencyLimitedDataSourceTest {
+
+    @Mock
+    private DataSource target;
+    @Mock
+    private Connection connection;
+
+    private ConcurrencyLimitedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new ConcurrencyLimitedDataSource(target, 1, 50);
+    }
+
+    @Test
+    @DisplayName("should Time Out When Every Permit Is Held")
+    void shouldTimeOutWhenEveryPermitIsHeld() throws SQLException {
+        when(target.getConnection()).thenReturn(connection);
+
+        var held = dataSource.getConnection();
+
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        verify(target, times(1)).getConnection();
+        held.close();
+    }
+
+    @Test
+    @DisplayName("should Release Permit Once When Connection Is Closed")
+    void shouldReleasePermitOnceWhenConnectionIsClosed() throws SQLException {
+        when(target.getConnection()).thenReturn(connection);
+
+        var held = dataSource.getConnection();
+        held.close();
+        held.close();
+
+        assertEquals(1, dataSource.getAvailablePermits());
+        verify(connection, times(2)).close();
+        assertNotNull(dataSource.getConnection());
+    }
+
+    @Test
+    @DisplayName("should Release Permit When Pool Fails To Provide Connection")
+    void shouldReleasePermitWhenPoolFailsToProvideConnection() throws SQLException {
+        when(target.getConnection()).thenThrow(new SQLTransientConnectionException("pool exhausted"));
+
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+
+        assertEquals(1, dataSource.getAvailablePermits());
+    }
+
+    @Test
+    @DisplayName("should Delegate Other Calls To Pooled Connection")
+    void shouldDelegateOtherCallsToPooledConnection() throws SQLException {
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.getAutoCommit()).thenReturn(false);
+
+        try (var limited = dataSource.getConnection()) {
+            assertFalse(limited.getAutoCommit());
+        }
+    }
+
+    @Test
+    @DisplayName("should Size Permits From The Hikari Pool Behind The Data Source")
+    void shouldSizePermitsFromTheHikariPoolBehindTheDataSource() {
+        var pool = new HikariDataSource();
+        pool.setMaximumPoolSize(7);
+        pool.setConnectionTimeout(1500);
+        var monitored = new MonitoredDataSource(pool, 200, null);
+
+        var fromPool = DataSourceConcurrencyConfig.limit(monitored, new MockEnvironment()
+                .withProperty("spring.datasource.hikari.maximum-pool-size", "50")
+                .withProperty("order.datasource.max-concurrency", "50"));
+        var lowered = DataSourceConcurrencyConfig.limit(pool, new MockEnvironment()
+                .withProperty("order.datasource.max-concurrency", "3"));
+
+        assertEquals(7, fromPool.getMaxConcurrency());
+        assertEquals(3, lowered.getMaxConcurrency());
+    }
+}
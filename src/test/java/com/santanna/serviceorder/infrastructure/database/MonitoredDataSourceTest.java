@@ -0,0 +1,91 @@
+package com.santanna.serviceorder.infrastructure.database;
+
+import com.santanna.serviceorder.application.utils.LoggerUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MonitoredDataSourceTest {
+    private static final String SQL = "select o.id from orders o where o.order_number=? and o.order_status=?";
+
+    @Mock
+    private DataSource target;
+    @Mock
+    private Connection connection;
+    @Mock
+    private PreparedStatement statement;
+    @Mock
+    private LoggerUtils loggerUtils;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(target.getConnection()).thenReturn(connection);
+    }
+
+    @Test
+    @DisplayName("should Log Slow Statement With Its Bind Count")
+    void shouldLogSlowStatementWithItsBindCount() throws SQLException {
+        when(connection.prepareStatement(SQL)).thenReturn(statement);
+        var dataSource = new MonitoredDataSource(target, 0, loggerUtils);
+
+        var prepared = dataSource.getConnection().prepareStatement(SQL);
+        prepared.setString(1, "ORD12345");
+        prepared.setString(2, "PENDING");
+        prepared.setFetchSize(100);
+        prepared.executeQuery();
+
+        verify(statement).executeQuery();
+        verify(loggerUtils).logWarn(eq(MonitoredDataSource.class), anyString(), any(), eq(2), eq(0), eq(SQL));
+        assertEquals(1, dataSource.getSlowQueryCount());
+    }
+
+    @Test
+    @DisplayName("should Report Binds Of Every Batch Row")
+    void shouldReportBindsOfEveryBatchRow() throws SQLException {
+        when(connection.prepareStatement(SQL)).thenReturn(statement);
+        var dataSource = new MonitoredDataSource(target, 0, loggerUtils);
+
+        var prepared = dataSource.getConnection().prepareStatement(SQL);
+        for (int i = 0; i < 3; i++) {
+            prepared.setString(1, "ORD" + i);
+            prepared.setString(2, "PENDING");
+            prepared.addBatch();
+        }
+        prepared.executeBatch();
+
+        verify(loggerUtils).logWarn(eq(MonitoredDataSource.class), anyString(), any(), eq(6), eq(3), eq(SQL));
+    }
+
+    @Test
+    @DisplayName("should Count Statements Of The Current Scope Without Logging Fast Ones")
+    void shouldCountStatementsOfTheCurrentScopeWithoutLoggingFastOnes() throws SQLException {
+        when(connection.prepareStatement(SQL)).thenReturn(statement);
+        var dataSource = new MonitoredDataSource(target, 60_000, loggerUtils);
+
+        StatementCounter.begin();
+        var prepared = dataSource.getConnection().prepareStatement(SQL);
+        prepared.executeQuery();
+        prepared.executeQuery();
+        int statements = StatementCounter.end();
+
+        prepared.executeQuery();
+
+        assertEquals(2, statements);
+        assertEquals(0, StatementCounter.end());
+        assertEquals(0, dataSource.getSlowQueryCount());
+        verifyNoInteractions(loggerUtils);
+    }
+}
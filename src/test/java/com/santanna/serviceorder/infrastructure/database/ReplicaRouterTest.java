@@ -0,0 +1,166 @@
+package com.santanna.serviceorder.infrastructure.database;
+
+import com.santanna.serviceorder.application.utils.LoggerUtils;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplicaRouterTest {
+
+    private DataSource primary;
+    private DataSource replica;
+
+    @BeforeEach
+    void setUp() {
+        primary = node("router_primary");
+        replica = node("router_replica");
+        new JdbcTemplate(replica).execute("CREATE TABLE replication (seconds_behind BIGINT)");
+        new JdbcTemplate(replica).update("INSERT INTO replication VALUES (0)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWrites.end();
+    }
+
+    // Cada banco responde o próprio nome, então a consulta mostra para onde a conexão foi roteada
+    private static DataSource node(String name) {
+        var dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        var jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(32))");
+        jdbcTemplate.update("INSERT INTO node VALUES (?)", name);
+        return dataSource;
+    }
+
+    private ReplicaRouter router(DataSource replica) {
+        return new ReplicaRouter(primary, Map.of("replica-1", replica), 5000, 10000,
+                "SELECT seconds_behind FROM replication", 1, new LoggerUtils(10));
+    }
+
+    private static String read(ReplicaRouter router) {
+        var dataSource = new LazyConnectionDataSourceProxy(router.getRoutingDataSource());
+        var readOnly = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        readOnly.setReadOnly(true);
+        return readOnly.execute(status -> new JdbcTemplate(dataSource).queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private static String write(ReplicaRouter router) {
+        var dataSource = new LazyConnectionDataSourceProxy(router.getRoutingDataSource());
+        var readWrite = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        return readWrite.execute(status -> {
+            var jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.update("UPDATE node SET name = name");
+            return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+        });
+    }
+
+    @Test
+    @DisplayName("should Send Read Only Transactions To A Checked Replica And Writes To The Primary")
+    void shouldSendReadOnlyTransactionsToACheckedReplicaAndWritesToThePrimary() {
+        var router = router(replica);
+
+        assertEquals("router_primary", read(router));
+
+        router.checkReplicas();
+
+        assertEquals("router_replica", read(router));
+        assertEquals("router_primary", write(router));
+        assertEquals("router_primary", new JdbcTemplate(router.getRoutingDataSource())
+                .queryForObject("SELECT name FROM node", String.class));
+        assertTrue(ReplicaRouter.isRouted(new LazyConnectionDataSourceProxy(router.getRoutingDataSource())));
+        assertFalse(ReplicaRouter.isRouted(new LazyConnectionDataSourceProxy(primary)));
+    }
+
+    @Test
+    @DisplayName("should Keep The Client On The Primary After A Committed Write")
+    void shouldKeepTheClientOnThePrimaryAfterACommittedWrite() {
+        var router = router(replica);
+        router.checkReplicas();
+        List<Long> pins = new ArrayList<>();
+
+        ReadYourWrites.begin(0L, pins::add);
+        assertEquals("router_replica", read(router));
+        write(router);
+
+        assertEquals(1, pins.size());
+        assertTrue(pins.get(0) > System.currentTimeMillis());
+        assertEquals("router_primary", read(router));
+
+        ReadYourWrites.begin(System.currentTimeMillis() - 1, pins::add);
+        assertEquals("router_replica", read(router));
+    }
+
+    @Test
+    @DisplayName("should Keep Primary Reads Off The Replica Without Pinning The Client")
+    void shouldKeepPrimaryReadsOffTheReplicaWithoutPinningTheClient() {
+        var router = router(replica);
+        router.checkReplicas();
+        List<Long> pins = new ArrayList<>();
+        ReadYourWrites.begin(0L, pins::add);
+
+        assertEquals("router_primary", PrimaryReads.call(() -> read(router)));
+
+        assertTrue(pins.isEmpty());
+        assertEquals("router_replica", read(router));
+    }
+
+    @Test
+    @DisplayName("should Cap A Client Deadline At The Maximum Replica Delay")
+    void shouldCapAClientDeadlineAtTheMaximumReplicaDelay() throws Exception {
+        var router = router(replica);
+        router.checkReplicas();
+        var request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE, Long.toString(Long.MAX_VALUE)));
+        List<String> routed = new ArrayList<>();
+
+        new ReadYourWritesFilter(10000, 50).doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            routed.add(read(router));
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(80));
+            routed.add(read(router));
+        });
+
+        assertEquals(List.of("router_primary", "router_replica"), routed);
+    }
+
+    @Test
+    @DisplayName("should Fall Back To The Primary While The Replica Lags Or Is Unreachable")
+    void shouldFallBackToThePrimaryWhileTheReplicaLagsOrIsUnreachable() {
+        var router = router(replica);
+        var replication = new JdbcTemplate(replica);
+
+        replication.update("UPDATE replication SET seconds_behind = 6");
+        router.checkReplicas();
+        assertEquals("router_primary", read(router));
+
+        replication.update("UPDATE replication SET seconds_behind = NULL");
+        router.checkReplicas();
+        assertEquals("router_primary", read(router));
+
+        replication.update("UPDATE replication SET seconds_behind = 1");
+        router.checkReplicas();
+        assertEquals("router_replica", read(router));
+
+        var unreachable = router(new DriverManagerDataSource("jdbc:h2:mem:router_missing;IFEXISTS=TRUE"));
+        unreachable.checkReplicas();
+        assertEquals("router_primary", read(unreachable));
+    }
+}
@@ -0,0 +1,68 @@
+package com.santanna.serviceorder.infrastructure.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class RedisBloomFilterTest {
+
+    private static final List<Long> CLEAR = List.of(0L);
+
+    @Test
+    @DisplayName("should Grow Past Hundreds Of Millions Of Orders Within Redis Bitmap Limits")
+    void shouldGrowPastHundredsOfMillionsOfOrdersWithinRedisBitmapLimits() {
+        long capacity = 0;
+        double falsePositiveRate = 0;
+        int stages = 0;
+        while (capacity < 1_000_000_000L) {
+            long stageCapacity = RedisBloomFilter.stageCapacity(1_000_000, 0.01, stages);
+            double stageRate = RedisBloomFilter.stageFalsePositiveRate(0.01, stages);
+            assertTrue(BloomHash.optimalBits(stageCapacity, stageRate) <= 1L << 32, "stage " + stages);
+            capacity += stageCapacity;
+            falsePositiveRate += stageRate;
+            stages++;
+        }
+
+        assertTrue(stages < 16, "stages: " + stages);
+        assertTrue(falsePositiveRate < 0.01);
+    }
+
+    @Test
+    @DisplayName("should Answer Maybe Present When Redis Lost The Filter")
+    @SuppressWarnings("unchecked")
+    void shouldAnswerMaybePresentWhenRedisLostTheFilter() {
+        var redisTemplate = mock(StringRedisTemplate.class);
+        var filter = new RedisBloomFilter(redisTemplate, "bloom", 1_000, 0.01);
+
+        // marca de aquecido e bitmap do primeiro estágio presentes, nenhum bit ligado
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of("1", 2L, CLEAR, CLEAR));
+        assertFalse(filter.mightContain("ORD-1"));
+
+        // FLUSHALL: sem a chave de estágios, a marca e o bitmap
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(Arrays.asList(null, 0L, CLEAR, CLEAR));
+        assertTrue(filter.mightContain("ORD-1"));
+    }
+
+    @Test
+    @DisplayName("should Read Again When Other Nodes Added Several Stages")
+    @SuppressWarnings("unchecked")
+    void shouldReadAgainWhenOtherNodesAddedSeveralStages() {
+        var redisTemplate = mock(StringRedisTemplate.class);
+        var filter = new RedisBloomFilter(redisTemplate, "bloom", 1_000, 0.01);
+
+        when(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenReturn(List.of("3", 2L, CLEAR, CLEAR))
+                .thenReturn(List.of("3", 4L, CLEAR, CLEAR, CLEAR, List.of(1L, 1L)));
+
+        assertTrue(filter.mightContain("ORD-1"));
+        verify(redisTemplate, times(2)).executePipelined(any(RedisCallback.class));
+    }
+}
@@ -0,0 +1,67 @@
+package com.santanna.serviceorder.infrastructure.filter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScalableBloomFilterTest {
+
+    @Test
+    @DisplayName("should Never Report Inserted Order Numbers As Absent")
+    void shouldNeverReportInsertedOrderNumbersAsAbsent() {
+        var filter = new ScalableBloomFilter(1_000, 0.01);
+
+        IntStream.range(0, 50_000).forEach(i -> filter.put("ORD" + i));
+
+        assertTrue(IntStream.range(0, 50_000).allMatch(i -> filter.mightContain("ORD" + i)));
+        assertTrue(filter.stageCount() > 1);
+    }
+
+    @Test
+    @DisplayName("should Keep False Positive Rate Near Configured Rate While Growing")
+    void shouldKeepFalsePositiveRateNearConfiguredRateWhileGrowing() {
+        var filter = new ScalableBloomFilter(1_000, 0.01);
+        IntStream.range(0, 50_000).forEach(i -> filter.put("ORD" + i));
+
+        long falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> filter.mightContain("NEW" + i))
+                .count();
+
+        assertTrue(falsePositives / 100_000.0 < 0.02, "false positives: " + falsePositives);
+        assertTrue(filter.expectedFalsePositiveRate() < 0.02);
+        assertTrue(filter.sizeInBytes() > 0);
+    }
+
+    @Test
+    @DisplayName("should Answer Maybe Present Until Filter Is Warm")
+    void shouldAnswerMaybePresentUntilFilterIsWarm() {
+        var store = new ScalableBloomFilter(100, 0.01);
+        var meterRegistry = new SimpleMeterRegistry();
+        var filter = new OrderNumberFilter(store, meterRegistry);
+
+        assertTrue(filter.mightContain("ORD1"));
+
+        filter.markWarm();
+
+        assertFalse(filter.mightContain("ORD1"));
+        filter.put("ORD1");
+        assertTrue(filter.mightContain("ORD1"));
+        assertEquals(1.0, meterRegistry.get("order.number.filter.checks").tag("result", "absent").counter().count());
+    }
+
+    @Test
+    @DisplayName("should Always Answer Maybe Present When Filter Is Disabled")
+    void shouldAlwaysAnswerMaybePresentWhenFilterIsDisabled() {
+        var filter = new OrderNumberFilter(new DisabledBloomFilterStore(), new SimpleMeterRegistry());
+
+        assertFalse(filter.tryAcquireWarmup());
+        filter.markWarm();
+
+        assertFalse(filter.isWarm());
+        assertTrue(filter.mightContain("ORD1"));
+    }
+}
@@ -0,0 +1,64 @@
+package com.santanna.serviceorder.infrastructure.id;
+
+import com.santanna.serviceorder.application.utils.LoggerUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class NodeIdLeaseTest {
+
+    private static final Duration TTL = Duration.ofSeconds(60);
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(
+            new DriverManagerDataSource("jdbc:h2:mem:node_id_lease;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1"));
+    private final Clock clock = mock(Clock.class);
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS order_id_node_lease");
+        when(clock.millis()).thenReturn(1_000_000L);
+    }
+
+    @Test
+    @DisplayName("should Lease A Different Node To Each Instance")
+    void shouldLeaseADifferentNodeToEachInstance() {
+        var first = new NodeIdLease(jdbcTemplate, TTL, new LoggerUtils(10), clock);
+        var second = new NodeIdLease(jdbcTemplate, TTL, new LoggerUtils(10), clock);
+
+        assertNotEquals(first.acquire(), second.acquire());
+        assertDoesNotThrow(first::checkHeld);
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM order_id_node_lease", Integer.class));
+    }
+
+    @Test
+    @DisplayName("should Refuse Ids Once The Lease Lapsed And Another Instance Took The Node")
+    void shouldRefuseIdsOnceTheLeaseLapsedAndAnotherInstanceTookTheNode() {
+        var stalled = new NodeIdLease(jdbcTemplate, TTL, new LoggerUtils(10), clock);
+        int nodeId = stalled.acquire();
+        // todos os outros ids ocupados: a nova instância só pode assumir o nó expirado
+        for (int i = 0; i <= TsidOrderIdGenerator.MAX_NODE_ID; i++) {
+            if (i != nodeId) {
+                jdbcTemplate.update("INSERT INTO order_id_node_lease (node_id, owner, expires_at) VALUES (?, 'other', ?)",
+                        i, Long.MAX_VALUE);
+            }
+        }
+
+        when(clock.millis()).thenReturn(1_000_000L + TTL.toMillis() / 2);
+        assertThrows(IllegalStateException.class, stalled::checkHeld);
+
+        when(clock.millis()).thenReturn(1_000_000L + TTL.toMillis() + 1);
+        var replacement = new NodeIdLease(jdbcTemplate, TTL, new LoggerUtils(10), clock);
+        assertEquals(nodeId, replacement.acquire());
+        assertThrows(IllegalStateException.class, stalled::renew);
+        assertThrows(IllegalStateException.class, stalled::checkHeld);
+        assertThrows(IllegalStateException.class, () -> new NodeIdLease(jdbcTemplate, TTL, new LoggerUtils(10), clock).acquire());
+    }
+}
@@ -0,0 +1,82 @@
+package com.santanna.serviceorder.infrastructure.id;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PooledSequenceOrderIdGeneratorTest {
+
+    private static final DriverManagerDataSource DATA_SOURCE =
+            new DriverManagerDataSource("jdbc:h2:mem:pooled_sequence;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(DATA_SOURCE);
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS order_id_sequence");
+    }
+
+    private PooledSequenceOrderIdGenerator generator(int poolSize) {
+        var generator = new PooledSequenceOrderIdGenerator(jdbcTemplate, new DataSourceTransactionManager(DATA_SOURCE), poolSize);
+        generator.createSequenceTable();
+        return generator;
+    }
+
+    private long nextVal() {
+        return jdbcTemplate.queryForObject("SELECT next_val FROM order_id_sequence WHERE sequence_name = ?",
+                Long.class, PooledSequenceOrderIdGenerator.SEQUENCE_NAME);
+    }
+
+    private void awaitNextVal(long expected) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (nextVal() != expected && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertEquals(expected, nextVal());
+    }
+
+    @Test
+    @DisplayName("should Hand Out Distinct Blocks To Each Replica")
+    void shouldHandOutDistinctBlocksToEachReplica() {
+        var replicaA = generator(10);
+        var replicaB = generator(10);
+        Set<Long> ids = new HashSet<>();
+
+        for (int i = 0; i < 25; i++) {
+            assertTrue(ids.add(replicaA.nextId()));
+            assertTrue(ids.add(replicaB.nextId()));
+        }
+
+        assertEquals(50, ids.size());
+        replicaA.close();
+        replicaB.close();
+    }
+
+    @Test
+    @DisplayName("should Reserve The Next Block Before The Current One Runs Out")
+    void shouldReserveTheNextBlockBeforeTheCurrentOneRunsOut() {
+        var generator = generator(4);
+        awaitNextVal(5);
+
+        assertEquals(1, generator.nextId());
+        assertEquals(5L, nextVal());
+        assertEquals(2, generator.nextId());
+        // metade do bloco usada: o próximo é reservado em segundo plano
+        awaitNextVal(9);
+
+        assertEquals(3, generator.nextId());
+        assertEquals(4, generator.nextId());
+        assertEquals(5, generator.nextId());
+        generator.close();
+        assertThrows(IllegalArgumentException.class, () -> generator(0));
+    }
+}
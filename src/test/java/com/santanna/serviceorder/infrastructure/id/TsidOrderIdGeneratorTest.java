@@ -0,0 +1,75 @@
+package com.santanna.serviceorder.infrastructure.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TsidOrderIdGeneratorTest {
+
+    @Test
+    @DisplayName("should Generate Increasing Positive Ids")
+    void shouldGenerateIncreasingPositiveIds() {
+        var generator = new TsidOrderIdGenerator(5);
+
+        long previous = 0;
+        for (int i = 0; i < 20_000; i++) {
+            long id = generator.nextId();
+            assertTrue(id > previous);
+            previous = id;
+        }
+    }
+
+    @Test
+    @DisplayName("should Keep Ids Unique Across Threads And Nodes")
+    void shouldKeepIdsUniqueAcrossThreadsAndNodes() throws InterruptedException {
+        var nodeA = new TsidOrderIdGenerator(1);
+        var nodeB = new TsidOrderIdGenerator(2);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            var generator = t % 2 == 0 ? nodeA : nodeB;
+            executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    ids.add(generator.nextId());
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        assertEquals(40_000, ids.size());
+    }
+
+    @Test
+    @DisplayName("should Generate Unique Ids Within The Same Millisecond")
+    void shouldGenerateUniqueIdsWithinTheSameMillisecond() {
+        var now = Instant.parse("2025-06-01T10:00:00Z");
+        var generator = new TsidOrderIdGenerator(3, Clock.fixed(now, ZoneOffset.UTC));
+
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            ids.add(generator.nextId());
+        }
+
+        assertEquals(100, ids.size());
+        assertEquals(now, TsidOrderIdGenerator.timestampOf(generator.nextId()));
+    }
+
+    @Test
+    @DisplayName("should Reject Node Id Out Of Range")
+    void shouldRejectNodeIdOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> new TsidOrderIdGenerator(TsidOrderIdGenerator.MAX_NODE_ID + 1));
+    }
+}
@@ -0,0 +1,87 @@
+package com.santanna.serviceorder.infrastructure.repository;
+
+import com.santanna.serviceorder.infrastructure.persistence.SpringDataOrderRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderCountCacheTest {
+
+    @Mock
+    private SpringDataOrderRepository springDataOrderRepository;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    @DisplayName("should Use The Optimizer Estimate Instead Of Counting")
+    @SuppressWarnings("unchecked")
+    void shouldUseTheOptimizerEstimateInsteadOfCounting() {
+        when(jdbcTemplate.query(eq(OrderCountCache.ESTIMATE), any(ResultSetExtractor.class))).thenReturn(1_250_000L);
+        var cache = new OrderCountCache(springDataOrderRepository, jdbcTemplate);
+
+        assertEquals(1_250_000L, cache.snapshot().total());
+        verify(springDataOrderRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("should Count Once Per Refresh Where No Estimate Exists")
+    @SuppressWarnings("unchecked")
+    void shouldCountOncePerRefreshWhereNoEstimateExists() {
+        when(jdbcTemplate.query(eq(OrderCountCache.ESTIMATE), any(ResultSetExtractor.class)))
+                .thenThrow(new BadSqlGrammarException("estimate", OrderCountCache.ESTIMATE, new SQLException("no rows column")));
+        when(springDataOrderRepository.count()).thenReturn(40L, 41L);
+        var cache = new OrderCountCache(springDataOrderRepository, jdbcTemplate);
+
+        assertEquals(40L, cache.snapshot().total());
+        cache.refresh();
+        assertEquals(41L, cache.snapshot().total());
+        verify(jdbcTemplate, times(1)).query(eq(OrderCountCache.ESTIMATE), any(ResultSetExtractor.class));
+    }
+
+    @Test
+    @DisplayName("should Count Only Committed Inserts")
+    @SuppressWarnings("unchecked")
+    void shouldCountOnlyCommittedInserts() {
+        when(jdbcTemplate.query(eq(OrderCountCache.ESTIMATE), any(ResultSetExtractor.class))).thenReturn(10L);
+        var cache = new OrderCountCache(springDataOrderRepository, jdbcTemplate);
+        cache.refresh();
+
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        cache.add(1);
+        assertEquals(10L, cache.snapshot().total());
+
+        // rollback: as sincronizações são descartadas sem afterCommit
+        TransactionSynchronizationManager.clearSynchronization();
+        assertEquals(10L, cache.snapshot().total());
+
+        TransactionSynchronizationManager.initSynchronization();
+        cache.add(1);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(11L, cache.snapshot().total());
+    }
+}
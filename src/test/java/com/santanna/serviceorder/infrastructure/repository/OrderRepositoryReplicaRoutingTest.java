@@ -0,0 +1,156 @@
+package com.santanna.serviceorder.infrastructure.repository;
+
+import com.santanna.serviceorder.application.utils.LoggerUtils;
+import com.santanna.serviceorder.domain.model.OrderStatus;
+import com.santanna.serviceorder.infrastructure.database.ReplicaRouter;
+import com.santanna.serviceorder.infrastructure.id.TsidOrderIdGenerator;
+import com.santanna.serviceorder.infrastructure.persistence.SpringDataOrderNumberRepository;
+import com.santanna.serviceorder.infrastructure.persistence.SpringDataOrderRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// A réplica é um banco vazio: qualquer leitura roteada para ela falha com "Table not found"
+class OrderRepositoryReplicaRoutingTest {
+
+    private static final DataSource PRIMARY =
+            new DriverManagerDataSource("jdbc:h2:mem:routing_primary;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+    private static final DataSource EMPTY_REPLICA =
+            new DriverManagerDataSource("jdbc:h2:mem:routing_replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+
+    private static final TsidOrderIdGenerator ID_GENERATOR = new TsidOrderIdGenerator(1);
+
+    private AnnotationConfigApplicationContext context;
+    private OrderRepositoryImpl repository;
+    private OrderCountCache orderCountCache;
+
+    @Configuration
+    @EnableTransactionManagement
+    @EnableJpaRepositories(basePackageClasses = SpringDataOrderRepository.class)
+    static class RoutingConfig {
+
+        @Bean
+        ReplicaRouter replicaRouter() {
+            var router = new ReplicaRouter(PRIMARY, Map.of("replica-1", EMPTY_REPLICA), 5000, 10000, "", 1,
+                    new LoggerUtils(10));
+            router.checkReplicas();
+            return router;
+        }
+
+        @Bean
+        DataSource dataSource(ReplicaRouter replicaRouter) {
+            return new LazyConnectionDataSourceProxy(replicaRouter.getRoutingDataSource());
+        }
+
+        @Bean
+        LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+            var factoryBean = new LocalContainerEntityManagerFactoryBean();
+            factoryBean.setDataSource(dataSource);
+            factoryBean.setPackagesToScan("com.santanna.serviceorder.infrastructure.entity");
+            factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+            factoryBean.setJpaPropertyMap(Map.of(
+                    "hibernate.hbm2ddl.auto", "create",
+                    "hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName()));
+            return factoryBean;
+        }
+
+        @Bean
+        JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+            return new JpaTransactionManager(entityManagerFactory);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        new JdbcTemplate(EMPTY_REPLICA).execute("DROP ALL OBJECTS");
+        context = new AnnotationConfigApplicationContext(RoutingConfig.class);
+
+        var jdbcTemplate = new JdbcTemplate(PRIMARY);
+        jdbcTemplate.update("INSERT INTO products (id, name) VALUES (1, 'Notebook')");
+        jdbcTemplate.update("INSERT INTO orders (id, order_number, product_id, quantity, total_value, currency, "
+                + "order_status, created_at) VALUES (42, 'ORD-42', 1, 2, 1999, 'BRL', 'RECEIVED', 1000)");
+        jdbcTemplate.update("INSERT INTO order_numbers (order_number, order_id, created_at) VALUES ('ORD-42', 42, 1000)");
+
+        var springDataOrderRepository = context.getBean(SpringDataOrderRepository.class);
+        var entityManager = SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+        var dataSource = context.getBean(DataSource.class);
+        var productDictionary = new ProductDictionary(new JdbcTemplate(dataSource), null, new LoggerUtils(10), 100);
+        orderCountCache = new OrderCountCache(springDataOrderRepository, new JdbcTemplate(dataSource));
+        repository = new OrderRepositoryImpl(springDataOrderRepository, context.getBean(SpringDataOrderNumberRepository.class),
+                entityManager, ID_GENERATOR, orderCountCache, null, productDictionary, 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    @DisplayName("should Read Orders For The Cache From The Primary And Leave The Count To The Replica")
+    void shouldReadOrdersForTheCacheFromThePrimaryAndLeaveTheCountToTheReplica() {
+        var order = repository.findById(42L).orElseThrow();
+
+        assertEquals("ORD-42", order.getOrderNumber());
+        assertEquals("Notebook", order.getProductName());
+        assertTrue(repository.findByOrderNumber("ORD-42").isPresent());
+        // o H2 não estima linhas no EXPLAIN: o COUNT(*) vai para a réplica vazia
+        var error = assertThrows(Exception.class, () -> orderCountCache.snapshot());
+        assertTrue(error.getMessage().toLowerCase().contains("not found"), error.getMessage());
+    }
+
+    @Test
+    @DisplayName("should Still Send Unmarked Read Only Transactions To The Replica")
+    void shouldStillSendUnmarkedReadOnlyTransactionsToTheReplica() {
+        var springDataOrderRepository = context.getBean(SpringDataOrderRepository.class);
+
+        // findById herda o @Transactional(readOnly = true) do SimpleJpaRepository
+        var error = assertThrows(Exception.class, () -> springDataOrderRepository.findById(42L));
+        assertTrue(error.getMessage().toLowerCase().contains("not found"), error.getMessage());
+    }
+
+    @Test
+    @DisplayName("should Find Update And Delete Orders By Id Through The Full Primary Key")
+    void shouldFindUpdateAndDeleteOrdersByIdThroughTheFullPrimaryKey() {
+        long id = ID_GENERATOR.nextId();
+        long createdAt = TsidOrderIdGenerator.timestampOf(id).toEpochMilli() - 5;
+        var jdbcTemplate = new JdbcTemplate(PRIMARY);
+        jdbcTemplate.update("INSERT INTO orders (id, order_number, product_id, quantity, total_value, currency, "
+                + "order_status, created_at) VALUES (?, 'ORD-TSID', 1, 1, 500, 'BRL', 'RECEIVED', ?)", id, createdAt);
+        jdbcTemplate.update("INSERT INTO order_numbers (order_number, order_id, created_at) VALUES ('ORD-TSID', ?, ?)",
+                id, createdAt);
+        var transactionTemplate = new TransactionTemplate(context.getBean(JpaTransactionManager.class));
+
+        var order = repository.findById(id).orElseThrow();
+        assertEquals(createdAt, order.getCreatedAt());
+        // id 42 não carrega o instante de criação: encontrado pela busca só por id
+        assertTrue(repository.findById(42L).isPresent());
+
+        transactionTemplate.executeWithoutResult(status -> repository.save(order.withStatus(OrderStatus.DELIVERED)));
+        assertEquals("DELIVERED", jdbcTemplate.queryForObject("SELECT order_status FROM orders WHERE id = ?", String.class, id));
+
+        transactionTemplate.executeWithoutResult(status -> repository.deleteById(id));
+        assertTrue(repository.findById(id).isEmpty());
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM order_numbers WHERE order_id = ?", Integer.class, id));
+    }
+}
@@ -0,0 +1,98 @@
+package com.santanna.serviceorder.infrastructure.repository;
+
+import com.santanna.serviceorder.application.utils.LoggerUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductDictionaryTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private DataSourceTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        var dataSource = new DriverManagerDataSource("jdbc:h2:mem:product_dictionary;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS products");
+        jdbcTemplate.execute("CREATE TABLE products (id INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                + "name VARCHAR(255) COLLATE utf8mb4_bin NOT NULL, UNIQUE (name))");
+    }
+
+    private ProductDictionary dictionary() {
+        return new ProductDictionary(jdbcTemplate, null, new LoggerUtils(10), 100);
+    }
+
+    @Test
+    @DisplayName("should Register A New Product Once And Reuse Its Id")
+    void shouldRegisterANewProductOnceAndReuseItsId() {
+        var dictionary = dictionary();
+
+        int id = dictionary.idFor("Notebook Pro 14");
+
+        assertEquals(id, dictionary.idFor("Notebook Pro 14"));
+        assertEquals(id, dictionary().idFor("Notebook Pro 14"));
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM products", Integer.class));
+        assertNotEquals(id, dictionary.idFor("notebook pro 14"));
+    }
+
+    @Test
+    @DisplayName("should Answer Cached Names Without Querying The Table")
+    void shouldAnswerCachedNamesWithoutQueryingTheTable() {
+        var dictionary = dictionary();
+        int id = dictionary.idFor("Mouse");
+
+        jdbcTemplate.update("DELETE FROM products");
+
+        assertEquals("Mouse", dictionary.nameFor(id));
+        assertEquals(id, dictionary.idFor("Mouse"));
+    }
+
+    @Test
+    @DisplayName("should Load Missing Names For A Page And Warm Up From The Table")
+    void shouldLoadMissingNamesForAPageAndWarmUpFromTheTable() {
+        var writer = dictionary();
+        int keyboard = writer.idFor("Keyboard");
+        int monitor = writer.idFor("Monitor");
+
+        var reader = dictionary();
+        reader.preload(List.of(keyboard, monitor));
+        jdbcTemplate.update("DELETE FROM products WHERE id = ?", keyboard);
+        assertEquals("Keyboard", reader.nameFor(keyboard));
+        assertEquals(monitor, reader.idFor("Monitor"));
+
+        var warmed = dictionary();
+        warmed.warmUp();
+        jdbcTemplate.update("DELETE FROM products");
+        assertEquals("Monitor", warmed.nameFor(monitor));
+    }
+
+    @Test
+    @DisplayName("should Insert New Products In The Order Transaction And Cache Them Only After Commit")
+    void shouldInsertNewProductsInTheOrderTransactionAndCacheThemOnlyAfterCommit() {
+        var dictionary = dictionary();
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            dictionary.idFor("Tablet");
+            // mesma conexão da transação: a linha ainda não confirmada já é visível aqui
+            assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM products", Integer.class));
+            status.setRollbackOnly();
+        });
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM products", Integer.class));
+
+        int id = transactionTemplate.execute(status -> dictionary.idFor("Tablet"));
+        assertEquals(id, jdbcTemplate.queryForObject("SELECT id FROM products WHERE name = 'Tablet'", Integer.class));
+        jdbcTemplate.update("DELETE FROM products");
+        assertEquals(id, dictionary.idFor("Tablet"));
+    }
+}
@@ -0,0 +1,104 @@
+package com.santanna.serviceorder.infrastructure.schema;
+
+import com.santanna.serviceorder.application.utils.LoggerUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class OrderSchemaManagerTest {
+
+    private static final YearMonth CURRENT = YearMonth.of(2026, 10);
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-10-15T12:00:00Z"), ZoneOffset.UTC);
+
+    private static OrderSchemaManager manager(JdbcTemplate jdbcTemplate, OrderSchemaManager.RetentionAction action) {
+        return new OrderSchemaManager(jdbcTemplate, new LoggerUtils(10), CLOCK, 3, 12, action, 1000);
+    }
+
+    @Test
+    @DisplayName("should Bound Each Partition At The First Millisecond Of The Next Month")
+    void shouldBoundEachPartitionAtTheFirstMillisecondOfTheNextMonth() {
+        long bound = OrderSchemaManager.upperBound(YearMonth.of(2026, 12));
+
+        assertEquals(LocalDateTime.of(2027, 1, 1, 0, 0).toInstant(ZoneOffset.UTC).toEpochMilli(), bound);
+        assertEquals("p202612", OrderSchemaManager.name(YearMonth.of(2026, 12)));
+    }
+
+    @Test
+    @DisplayName("should Create The Table From The Previous Month Through The Premade Months")
+    void shouldCreateTheTableFromThePreviousMonthThroughThePremadeMonths() {
+        String ddl = OrderSchemaManager.createOrdersTable(CURRENT, 2);
+
+        assertTrue(ddl.contains("PRIMARY KEY (id, created_at)"));
+        assertTrue(ddl.contains("PARTITION BY RANGE (created_at)"));
+        assertTrue(ddl.contains("PARTITION p202609 VALUES LESS THAN ("
+                + OrderSchemaManager.upperBound(YearMonth.of(2026, 9)) + ")"));
+        assertTrue(ddl.contains("PARTITION p202612 VALUES LESS THAN ("
+                + OrderSchemaManager.upperBound(YearMonth.of(2026, 12)) + ")"));
+        assertFalse(ddl.contains("p202608"));
+        assertFalse(ddl.contains("p202701"));
+        assertTrue(ddl.contains("PARTITION p_future VALUES LESS THAN MAXVALUE"));
+    }
+
+    @Test
+    @DisplayName("should Add Only The Months Above The Highest Existing Partition")
+    void shouldAddOnlyTheMonthsAboveTheHighestExistingPartition() {
+        var existing = OrderSchemaManager.monthsOf(List.of("p202609", "p202610", "p202611", "p_future"));
+
+        assertEquals(List.of(YearMonth.of(2026, 12), YearMonth.of(2027, 1)),
+                OrderSchemaManager.missing(existing, CURRENT, 3));
+        assertTrue(OrderSchemaManager.missing(existing, YearMonth.of(2026, 8), 3).isEmpty());
+    }
+
+    @Test
+    @DisplayName("should Expire Partitions Older Than The Retention")
+    void shouldExpirePartitionsOlderThanTheRetention() {
+        var existing = OrderSchemaManager.monthsOf(List.of("p202507", "p202508", "p202509", "p202510", "p202610"));
+
+        assertEquals(List.of(YearMonth.of(2025, 7), YearMonth.of(2025, 8), YearMonth.of(2025, 9)),
+                OrderSchemaManager.expired(existing, CURRENT, 12));
+        assertTrue(OrderSchemaManager.expired(existing, CURRENT, 24).isEmpty());
+    }
+
+    @Test
+    @DisplayName("should Refuse To Start On An Orders Table Without Partitions")
+    void shouldRefuseToStartOnAnOrdersTableWithoutPartitions() {
+        var jdbcTemplate = mock(JdbcTemplate.class);
+
+        var error = assertThrows(IllegalStateException.class,
+                () -> manager(jdbcTemplate, OrderSchemaManager.RetentionAction.DROP).createSchema());
+
+        assertTrue(error.getMessage().contains("not partitioned"));
+        verify(jdbcTemplate, never()).execute(startsWith("ALTER TABLE orders"));
+    }
+
+    @Test
+    @DisplayName("should Finish An Interrupted Detach Without Exchanging The Archived Rows Back")
+    void shouldFinishAnInterruptedDetachWithoutExchangingTheArchivedRowsBack() {
+        var session = mock(JdbcTemplate.class);
+        when(session.queryForList(anyString(), eq(String.class), eq("orders")))
+                .thenReturn(List.of("p202508", "p202509", "p202510", "p_future"));
+        when(session.queryForObject(anyString(), eq(Integer.class), eq("orders_archive_p202508"))).thenReturn(1);
+        when(session.queryForObject(anyString(), eq(Integer.class), eq("orders_archive_p202509"))).thenReturn(0);
+        when(session.queryForList("SELECT 1 FROM orders_archive_p202508 LIMIT 1", Integer.class)).thenReturn(List.of(1));
+
+        manager(session, OrderSchemaManager.RetentionAction.DETACH).maintainPartitions(session);
+
+        verify(session, never()).execute("CREATE TABLE orders_archive_p202508 LIKE orders");
+        verify(session, never()).execute(contains("EXCHANGE PARTITION p202508"));
+        verify(session).execute("ALTER TABLE orders DROP PARTITION p202508");
+        verify(session).execute("CREATE TABLE orders_archive_p202509 LIKE orders");
+        verify(session).execute("ALTER TABLE orders EXCHANGE PARTITION p202509 WITH TABLE orders_archive_p202509");
+        verify(session).execute("ALTER TABLE orders DROP PARTITION p202509");
+    }
+}
@@ -0,0 +1,138 @@
+package com.santanna.serviceorder.interfaces.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.santanna.serviceorder.application.dto.OrderBatchResultDto;
+import com.santanna.serviceorder.application.dto.OrderRequestDto;
+import com.santanna.serviceorder.application.dto.OrderResponseDto;
+import com.santanna.serviceorder.application.usecase.CreateOrderBatchUseCase;
+import com.santanna.serviceorder.application.usecase.CreateOrdersOneByOneUseCase;
+import com.santanna.serviceorder.application.utils.LoggerUtils;
+import com.santanna.serviceorder.domain.model.OrderStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class OrderBulkControllerTest {
+
+    @Mock
+    private CreateOrderBatchUseCase createOrderBatchUseCase;
+    @Mock
+    private CreateOrdersOneByOneUseCase createOrdersOneByOneUseCase;
+    @Mock
+    private LoggerUtils loggerUtils;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        var controller = new OrderBulkController(createOrderBatchUseCase, createOrdersOneByOneUseCase, objectMapper, loggerUtils, 2);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    @DisplayName("should Stream One Result Per NDJSON Record In Chunks")
+    void shouldStreamOneResultPerNdjsonRecordInChunks() throws Exception {
+        when(createOrderBatchUseCase.execute(any())).thenAnswer(invocation -> {
+            List<OrderRequestDto> chunk = invocation.getArgument(0);
+            return chunk.stream().map(this::created).toList();
+        });
+
+        var body = """
+                {"orderNumber":"A1","productName":"Product A","quantity":1,"unitPrice":10.00}
+                {"orderNumber":"A2","productName":"Product A","quantity":"many","unitPrice":10.00}
+                {"orderNumber":"A3","productName":"Product B","quantity":2,"unitPrice":5.00}
+                {"orderNumber":"A4","productName":"Product B","quantity":3,"unitPrice":5.00}
+                """;
+
+        var response = mockMvc.perform(post("/orders/batch")
+                        .contentType(OrderBulkController.APPLICATION_NDJSON_VALUE)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        var lines = response.lines().map(this::read).toList();
+        assertEquals(List.of("CREATED", "INVALID", "CREATED", "CREATED"),
+                lines.stream().map(r -> r.status().name()).toList());
+        assertEquals("A3", lines.get(2).orderNumber());
+        verify(createOrderBatchUseCase, times(2)).execute(any());
+    }
+
+    @Test
+    @DisplayName("should Accept A JSON Array Body")
+    void shouldAcceptJsonArrayBody() throws Exception {
+        when(createOrderBatchUseCase.execute(any())).thenAnswer(invocation -> {
+            List<OrderRequestDto> chunk = invocation.getArgument(0);
+            return chunk.stream().map(this::created).toList();
+        });
+
+        var body = """
+                [{"orderNumber":"B1","productName":"Product A","quantity":1,"unitPrice":10.00},
+                 {"orderNumber":"B2","productName":"Product A","quantity":1,"unitPrice":10.00},
+                 {"orderNumber":"B3","productName":"Product A","quantity":1,"unitPrice":10.00}]
+                """;
+
+        var response = mockMvc.perform(post("/orders/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertEquals(3, response.lines().count());
+        verify(createOrderBatchUseCase, times(2)).execute(any());
+    }
+
+    @Test
+    @DisplayName("should Retry A Failed Chunk One By One So Only The Conflicting Record Fails")
+    void shouldRetryAFailedChunkOneByOneSoOnlyTheConflictingRecordFails() throws Exception {
+        when(createOrderBatchUseCase.execute(any())).thenThrow(new IllegalStateException("Duplicate entry 'C2'"));
+        when(createOrdersOneByOneUseCase.execute(any())).thenAnswer(invocation -> {
+            List<OrderRequestDto> chunk = invocation.getArgument(0);
+            return List.of(created(chunk.get(0)), OrderBatchResultDto.duplicate(chunk.get(1).orderNumber()));
+        });
+
+        var body = """
+                {"orderNumber":"C1","productName":"Product A","quantity":1,"unitPrice":10.00}
+                {"orderNumber":"C2","productName":"Product A","quantity":1,"unitPrice":10.00}
+                """;
+
+        var response = mockMvc.perform(post("/orders/batch")
+                        .contentType(OrderBulkController.APPLICATION_NDJSON_VALUE)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertEquals(List.of("CREATED", "DUPLICATE"),
+                response.lines().map(this::read).map(r -> r.status().name()).toList());
+    }
+
+    private OrderBatchResultDto created(OrderRequestDto request) {
+        return OrderBatchResultDto.created(new OrderResponseDto(1L, request.orderNumber(), request.productName(),
+                request.quantity(), request.unitPrice(), "BRL", OrderStatus.PROCESSED, LocalDateTime.now()));
+    }
+
+    private OrderBatchResultDto read(String line) {
+        try {
+            return objectMapper.readValue(line, OrderBatchResultDto.class);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
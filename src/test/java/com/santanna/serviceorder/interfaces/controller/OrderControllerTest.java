@@ -10,7 +10,9 @@ import com.santanna.serviceorder.application.usecase.UpdateOrderUseCase;
 import com.santanna.serviceorder.application.usecase.exception.BusinessException;
 import com.santanna.serviceorder.application.usecase.exception.NotFoundException;
 import com.santanna.serviceorder.application.utils.LoggerUtils;
+import com.santanna.serviceorder.domain.common.CursorPage;
 import com.santanna.serviceorder.domain.common.PaginatedResult;
+import com.santanna.serviceorder.domain.common.SliceResult;
 import com.santanna.serviceorder.domain.model.Order;
 import com.santanna.serviceorder.domain.model.OrderStatus;
 import com.santanna.serviceorder.domain.repository.OrderRepository;
@@ -32,6 +34,7 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -74,7 +77,7 @@ public class OrderControllerTest {
                 "ORD123",
                 "Product A",
                 2,
-                BigDecimal.valueOf(200.0));
+                BigDecimal.valueOf(200.0), null);
 
         when(createOrderUseCase.execute(requestDto)).thenReturn(mockResponse);
 
@@ -97,9 +100,9 @@ public class OrderControllerTest {
                 .andExpect(status().isOk());
         verify(updateOrderUseCase).execute(eq(ORDER_ID), eq(OrderStatus.DELIVERED));
 
-        verify(loggerUtils).logInfo(
+        verify(loggerUtils).logDebug(
                 eq(OrderController.class),
-                eq("Order with ID {} not found"),
+                eq("Receiving request to update order status. ID: {}"),
                 eq(ORDER_ID)
         );
     }
@@ -116,9 +119,9 @@ public class OrderControllerTest {
                 .andExpect(jsonPath("$.productName").value("Product A"))
                 .andExpect(jsonPath("$.status").value("PROCESSED"));
 
-        verify(loggerUtils).logInfo(eq(OrderController.class),
+        verify(loggerUtils).logDebug(eq(OrderController.class),
                 eq("Received request to fetch order by ID: {}"), eq(ORDER_ID));
-        verify(loggerUtils).logInfo(eq(OrderController.class),
+        verify(loggerUtils).logInfoSampled(eq(OrderController.class),
                 eq("Order retrieved successfully. ID: {}"), eq(ORDER_ID));
     }
 
@@ -128,9 +131,9 @@ public class OrderControllerTest {
 
         List<OrderResponseDto> mockOrders = List.of(
                 new OrderResponseDto(1L, "ORD123", "Product A",
-                        2, BigDecimal.valueOf(200.0), OrderStatus.PROCESSED, LocalDateTime.now()),
+                        2, BigDecimal.valueOf(200.0), "BRL", OrderStatus.PROCESSED, LocalDateTime.now()),
                 new OrderResponseDto(2L, "ORD456", "Product B",
-                        1, BigDecimal.valueOf(150.0), OrderStatus.DELIVERED, LocalDateTime.now())
+                        1, BigDecimal.valueOf(150.0), "BRL", OrderStatus.DELIVERED, LocalDateTime.now())
         );
 
         PaginatedResult<OrderResponseDto> mockResult = new PaginatedResult<>
@@ -153,6 +156,57 @@ public class OrderControllerTest {
         verify(loggerUtils).logInfo(eq(OrderController.class), eq("Listing orders - Page: {}, Size: {}"), eq(0), eq(10));
     }
 
+    @Test
+    @DisplayName(" Should be able to list orders by cursor")
+    public void shouldBeAbleToListOrdersByCursor() throws Exception {
+        var mockPage = new CursorPage<>(List.of(mockResponse), 1, "next-token");
+
+        when(getOrderUseCase.getOrdersAfter("", 1)).thenReturn(mockPage);
+
+        mockMvc.perform(get("/orders")
+                        .param("after", "")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.nextCursor").value("next-token"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+
+        verify(getOrderUseCase, never()).getAllOrders(anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName(" Should be able to list orders filtered by status")
+    public void shouldBeAbleToListOrdersFilteredByStatus() throws Exception {
+        var mockPage = new CursorPage<>(List.of(mockResponse), 10, null);
+        var statuses = Set.of(OrderStatus.RECEIVED, OrderStatus.PROCESSED);
+
+        when(getOrderUseCase.getOrdersByStatus(statuses, "cursor", 10)).thenReturn(mockPage);
+
+        mockMvc.perform(get("/orders")
+                        .param("status", "RECEIVED", "PROCESSED")
+                        .param("after", "cursor"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.hasNext").value(false));
+
+        verify(getOrderUseCase, never()).getOrdersAfter(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName(" Should be able to list orders without total count")
+    public void shouldBeAbleToListOrdersWithoutTotalCount() throws Exception {
+        when(getOrderUseCase.getOrdersSlice(0, 10)).thenReturn(new SliceResult<>(List.of(mockResponse), 0, 10, false));
+
+        mockMvc.perform(get("/orders")
+                        .param("slice", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+        verify(getOrderUseCase, never()).getAllOrders(anyInt(), anyInt());
+    }
+
     @Test
     @DisplayName(" Should be able to delete order")
     public void shouldBeAbleToDeleteOrder() throws Exception {
@@ -160,9 +214,9 @@ public class OrderControllerTest {
                .andExpect(status().isNoContent());
        verify(deleteOrderUseCase).execute(ORDER_ID);
 
-        verify(loggerUtils).logInfo(
+        verify(loggerUtils).logDebug(
                 eq(OrderController.class),
-                eq("Order with ID {} not found"),
+                eq("Receiving request to delete order. ID: {}"),
                 eq(ORDER_ID)
         );
     }
@@ -174,7 +228,7 @@ public class OrderControllerTest {
                 "ORD123",
                 "Product A",
                 2,
-                BigDecimal.valueOf(200.0));
+                BigDecimal.valueOf(200.0), null);
 
         when(createOrderUseCase.execute(eq(requestDto))).thenThrow
                 (new BusinessException("There is already an order with this number."));
@@ -185,7 +239,7 @@ public class OrderControllerTest {
                 .andExpect(status().isUnprocessableEntity());
 
         // Verifica se o log foi registrado corretamente
-        verify(loggerUtils).logInfo(
+        verify(loggerUtils).logDebug(
                 eq(OrderController.class),
                 eq("Receiving request to create order: {}"),
                 eq("ORD123")
@@ -201,7 +255,7 @@ public class OrderControllerTest {
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isNotFound());
 
-        verify(loggerUtils).logInfo(eq(OrderController.class),
+        verify(loggerUtils).logDebug(eq(OrderController.class),
                 eq("Received request to fetch order by ID: {}"), eq(ORDER_ID));
     }
 
@@ -216,9 +270,9 @@ public class OrderControllerTest {
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isNotFound());
 
-        verify(loggerUtils).logInfo(
+        verify(loggerUtils).logDebug(
                 eq(OrderController.class),
-                eq("Order with ID {} not found"),
+                eq("Receiving request to update order status. ID: {}"),
                 eq(invalidId)
         );
     }
@@ -234,9 +288,9 @@ public class OrderControllerTest {
         mockMvc.perform(MockMvcRequestBuilders.delete("/orders/{id}", invalidId))
                 .andExpect(status().isNotFound()); // Status 404
 
-        verify(loggerUtils).logInfo(
+        verify(loggerUtils).logDebug(
                 eq(OrderController.class),
-                eq("Order with ID {} not found"),
+                eq("Receiving request to delete order. ID: {}"),
                 eq(invalidId)
         );
     }
@@ -254,7 +308,7 @@ public class OrderControllerTest {
                 "Product A",
                 2,
                 BigDecimal.valueOf(200.0),
-                OrderStatus.PROCESSED,
+                "BRL", OrderStatus.PROCESSED,
                 LocalDateTime.now()
         );
     }
@@ -0,0 +1,94 @@
+package com.santanna.serviceorder.interfaces.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.santanna.serviceorder.application.dto.OrderResponseDto;
+import com.santanna.serviceorder.application.usecase.ExportOrdersUseCase;
+import com.santanna.serviceorder.application.utils.LoggerUtils;
+import com.santanna.serviceorder.domain.model.OrderStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class OrderExportControllerTest {
+
+    @Mock
+    private ExportOrdersUseCase exportOrdersUseCase;
+    @Mock
+    private LoggerUtils loggerUtils;
+
+    private MockMvc mockMvc;
+
+    private final OrderResponseDto order = new OrderResponseDto(1L, "ORD123", "Product \"A\", large", 2,
+            new BigDecimal("200.00"), "BRL", OrderStatus.PROCESSED, LocalDateTime.of(2025, 1, 1, 12, 0));
+
+    @BeforeEach
+    void setUp() {
+        var objectMapper = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        var controller = new OrderExportController(exportOrdersUseCase, objectMapper, loggerUtils);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+
+        when(exportOrdersUseCase.execute(any(), isNull(), isNull(), any())).thenAnswer(invocation -> {
+            Consumer<OrderResponseDto> sink = invocation.getArgument(3);
+            sink.accept(order);
+            sink.accept(order);
+            return 2L;
+        });
+    }
+
+    @Test
+    @DisplayName("should Export Orders As Escaped Csv")
+    void shouldExportOrdersAsEscapedCsv() throws Exception {
+        var body = mockMvc.perform(get("/orders/export")
+                        .param("status", "PROCESSED")
+                        .param("format", "csv"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        var lines = body.lines().toList();
+        assertEquals(3, lines.size());
+        assertEquals("id,orderNumber,productName,quantity,totalValue,currency,status,createdAt", lines.get(0));
+        assertEquals("1,ORD123,\"Product \"\"A\"\", large\",2,200.00,BRL,PROCESSED,2025-01-01T12:00", lines.get(1));
+    }
+
+    @Test
+    @DisplayName("should Gzip Ndjson Export When Client Accepts It")
+    void shouldGzipNdjsonExportWhenClientAcceptsIt() throws Exception {
+        var bytes = mockMvc.perform(get("/orders/export")
+                        .header("Accept-Encoding", "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        String body;
+        try (var in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        var lines = body.lines().toList();
+        assertEquals(2, lines.size());
+        assertEquals("ORD123", new ObjectMapper().readTree(lines.get(1)).get("orderNumber").asText());
+    }
+}
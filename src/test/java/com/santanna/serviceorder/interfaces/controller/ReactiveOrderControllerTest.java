@@ -0,0 +1,97 @@
+package com.santanna.serviceorder.interfaces.controller;
+
+import com.santanna.serviceorder.application.dto.OrderResponseDto;
+import com.santanna.serviceorder.application.usecase.ReactiveGetOrderUseCase;
+import com.santanna.serviceorder.application.usecase.exception.NotFoundException;
+import com.santanna.serviceorder.application.utils.LoggerUtils;
+import com.santanna.serviceorder.domain.common.CursorPage;
+import com.santanna.serviceorder.domain.model.OrderStatus;
+import com.santanna.serviceorder.interfaces.handler.GlobalExceptionHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveOrderControllerTest {
+
+    @InjectMocks
+    private ReactiveOrderController reactiveOrderController;
+    @Mock
+    private ReactiveGetOrderUseCase reactiveGetOrderUseCase;
+    @Mock
+    private LoggerUtils loggerUtils;
+
+    private MockMvc mockMvc;
+    private OrderResponseDto responseDto;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(reactiveOrderController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+        responseDto = new OrderResponseDto(1L, "123", "Product A", 2, BigDecimal.valueOf(200.0),
+                "BRL", OrderStatus.PROCESSED, LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("should Return Order Asynchronously When Found")
+    void shouldReturnOrderAsynchronouslyWhenFound() throws Exception {
+        when(reactiveGetOrderUseCase.getById(1L)).thenReturn(Mono.just(responseDto));
+
+        var result = mockMvc.perform(get("/reactive/orders/1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1))
+                .andExpect(jsonPath("$.orderNumber").value("123"));
+    }
+
+    @Test
+    @DisplayName("should Return Not Found When Order Does Not Exist")
+    void shouldReturnNotFoundWhenOrderDoesNotExist() throws Exception {
+        when(reactiveGetOrderUseCase.getById(9L)).thenReturn(Mono.error(new NotFoundException("Order not found")));
+
+        var result = mockMvc.perform(get("/reactive/orders/9"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("should Return Cursor Page Asynchronously")
+    void shouldReturnCursorPageAsynchronously() throws Exception {
+        when(reactiveGetOrderUseCase.getOrdersAfter("", 1))
+                .thenReturn(Mono.just(new CursorPage<>(List.of(responseDto), 1, "AAAAAAAAAAE")));
+
+        var result = mockMvc.perform(get("/reactive/orders").param("size", "1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1))
+                .andExpect(jsonPath("$.nextCursor").value("AAAAAAAAAAE"));
+    }
+}
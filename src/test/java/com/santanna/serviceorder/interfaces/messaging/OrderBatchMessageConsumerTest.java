@@ -0,0 +1,114 @@
+package com.santanna.serviceorder.interfaces.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rabbitmq.client.Channel;
+import com.santanna.serviceorder.application.dto.OrderRequestDto;
+import com.santanna.serviceorder.application.dto.OrderResponseDto;
+import com.santanna.serviceorder.application.usecase.CreateOrderBatchUseCase;
+import com.santanna.serviceorder.application.usecase.CreateOrderUseCase;
+import com.santanna.serviceorder.application.usecase.CreateOrdersOneByOneUseCase;
+import com.santanna.serviceorder.application.usecase.exception.BusinessException;
+import com.santanna.serviceorder.application.utils.LoggerUtils;
+import com.santanna.serviceorder.application.utils.OrderMetrics;
+import com.santanna.serviceorder.domain.model.OrderStatus;
+import com.santanna.serviceorder.infrastructure.exception.DatabaseException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderBatchMessageConsumerTest {
+
+    @Mock
+    private CreateOrderBatchUseCase createOrderBatchUseCase;
+    @Mock
+    private CreateOrderUseCase createOrderUseCase;
+    @Mock
+    private Validator validator;
+    @Mock
+    private LoggerUtils loggerUtils;
+    @Mock
+    private Channel channel;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SimpleMeterRegistry meterRegistry;
+    private OrderBatchMessageConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        consumer = new OrderBatchMessageConsumer(createOrderBatchUseCase,
+                new CreateOrdersOneByOneUseCase(createOrderUseCase, validator), objectMapper, loggerUtils,
+                new OrderMetrics(meterRegistry));
+    }
+
+    private Message message(long deliveryTag, OrderRequestDto request) throws IOException {
+        var properties = new MessageProperties();
+        properties.setDeliveryTag(deliveryTag);
+        return new Message(objectMapper.writeValueAsBytes(request), properties);
+    }
+
+    private static OrderRequestDto request(String orderNumber) {
+        return new OrderRequestDto(orderNumber, "Product A", 2, BigDecimal.TEN, "BRL");
+    }
+
+    private static OrderResponseDto created(String orderNumber) {
+        return new OrderResponseDto(1L, orderNumber, "Product A", 2, new BigDecimal("20.00"), "BRL",
+                OrderStatus.PROCESSED, LocalDateTime.now());
+    }
+
+    private double messages(String outcome) {
+        return meterRegistry.get("order.messages").tags("mode", OrderMetrics.BATCH, "outcome", outcome).counter().count();
+    }
+
+    @Test
+    @DisplayName("should Create The Valid Orders One By One When The Batch Fails")
+    void shouldCreateTheValidOrdersOneByOneWhenTheBatchFails() throws IOException {
+        when(validator.validate(any(OrderRequestDto.class))).thenReturn(Set.of());
+        when(createOrderBatchUseCase.execute(anyList()))
+                .thenThrow(new DatabaseException("Order batch contains an order number that already exists", null));
+        when(createOrderUseCase.execute(request("A"))).thenReturn(created("A"));
+        when(createOrderUseCase.execute(request("B"))).thenThrow(new BusinessException("There is already an order with this number."));
+        when(createOrderUseCase.execute(request("C"))).thenReturn(created("C"));
+
+        consumer.receiveOrders(List.of(message(1, request("A")), message(2, request("B")), message(3, request("C"))), channel);
+
+        verify(channel).basicReject(2, false);
+        verify(channel).basicAck(3, true);
+        verify(channel, never()).basicReject(eq(1L), anyBoolean());
+        verify(channel, never()).basicReject(eq(3L), anyBoolean());
+        assertEquals(2, messages("created"));
+        assertEquals(1, messages("duplicate"));
+    }
+
+    @Test
+    @DisplayName("should Dead Letter Messages That Still Fail Alone")
+    void shouldDeadLetterMessagesThatStillFailAlone() throws IOException {
+        when(validator.validate(any(OrderRequestDto.class))).thenReturn(Set.of());
+        when(createOrderBatchUseCase.execute(anyList())).thenThrow(new DatabaseException("Error saving order batch", null));
+        when(createOrderUseCase.execute(any())).thenThrow(new DatabaseException("Error creating order", null));
+
+        consumer.receiveOrders(List.of(message(7, request("A"))), channel);
+
+        verify(channel).basicReject(7, false);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+        assertEquals(1, messages("failed"));
+    }
+}
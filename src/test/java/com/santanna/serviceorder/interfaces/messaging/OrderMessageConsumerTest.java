@@ -0,0 +1,101 @@
+package com.santanna.serviceorder.interfaces.messaging;
+
+import com.santanna.serviceorder.application.dto.OrderRequestDto;
+import com.santanna.serviceorder.application.usecase.CreateOrderUseCase;
+import com.santanna.serviceorder.application.usecase.exception.BusinessException;
+import com.santanna.serviceorder.application.utils.LoggerUtils;
+import com.santanna.serviceorder.application.utils.OrderMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderMessageConsumerTest {
+
+    @Mock
+    private CreateOrderUseCase createOrderUseCase;
+    @Mock
+    private Validator validator;
+    @Mock
+    private LoggerUtils loggerUtils;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrderMessageConsumer consumer;
+    private OrderRequestDto request;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        consumer = new OrderMessageConsumer(createOrderUseCase, validator, loggerUtils, new OrderMetrics(meterRegistry));
+        request = new OrderRequestDto("123", "Product A", 2, BigDecimal.TEN, null);
+    }
+
+    private double messages(String outcome) {
+        return meterRegistry.get("order.messages").tags("mode", OrderMetrics.SINGLE, "outcome", outcome).counter().count();
+    }
+
+    @Test
+    @DisplayName("should Count Created Message And Record Latency Until Commit")
+    void shouldCountCreatedMessageAndRecordLatencyUntilCommit() {
+        when(validator.validate(request)).thenReturn(Set.of());
+
+        consumer.receiveOrder(request, new Date(System.currentTimeMillis() - 250));
+
+        assertEquals(1, messages("created"));
+        var latency = meterRegistry.get("order.message.commit.latency").timer();
+        assertEquals(1, latency.count());
+        assertTrue(latency.totalTime(TimeUnit.MILLISECONDS) >= 250);
+    }
+
+    @Test
+    @DisplayName("should Skip Latency When Message Has No Timestamp")
+    void shouldSkipLatencyWhenMessageHasNoTimestamp() {
+        when(validator.validate(request)).thenReturn(Set.of());
+
+        consumer.receiveOrder(request, null);
+
+        assertEquals(1, messages("created"));
+        assertEquals(0, meterRegistry.get("order.message.commit.latency").timer().count());
+    }
+
+    @Test
+    @DisplayName("should Count Validation Failure And Reject Message")
+    @SuppressWarnings("unchecked")
+    void shouldCountValidationFailureAndRejectMessage() {
+        when(validator.validate(request)).thenReturn(Set.of(mock(ConstraintViolation.class)));
+
+        assertThrows(AmqpRejectAndDontRequeueException.class, () -> consumer.receiveOrder(request, new Date()));
+
+        assertEquals(1, messages("invalid"));
+        verifyNoInteractions(createOrderUseCase);
+    }
+
+    @Test
+    @DisplayName("should Count Duplicate Order Number")
+    void shouldCountDuplicateOrderNumber() {
+        when(validator.validate(request)).thenReturn(Set.of());
+        when(createOrderUseCase.execute(any())).thenThrow(new BusinessException("There is already an order with this number."));
+
+        assertThrows(AmqpRejectAndDontRequeueException.class, () -> consumer.receiveOrder(request, new Date()));
+
+        assertEquals(1, messages("duplicate"));
+        assertEquals(0, messages("failed"));
+        assertEquals(0, meterRegistry.get("order.message.commit.latency").timer().count());
+    }
+}